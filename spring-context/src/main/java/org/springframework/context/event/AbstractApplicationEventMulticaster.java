@@ -54,6 +54,11 @@ import org.springframework.util.ObjectUtils;
  * all events to all registered listeners, invoking them in the calling thread.
  * Alternative implementations could be more sophisticated in those respects.
  *
+ * <p>Retrieval of the listeners for a given event type does not acquire any
+ * lock once the corresponding listener cache entry has been populated. The
+ * cache entry is populated without holding a lock as well; concurrent first
+ * retrievals for the same event type simply compute the listeners on their own.
+ *
  * @author Juergen Hoeller
  * @author Stephane Nicoll
  * @since 1.2.3
@@ -63,9 +68,9 @@ import org.springframework.util.ObjectUtils;
 public abstract class AbstractApplicationEventMulticaster
 		implements ApplicationEventMulticaster, BeanClassLoaderAware, BeanFactoryAware {
 
-	private final ListenerRetriever defaultRetriever = new ListenerRetriever(false);
+	private final DefaultListenerRetriever defaultRetriever = new DefaultListenerRetriever();
 
-	final Map<ListenerCacheKey, ListenerRetriever> retrieverCache = new ConcurrentHashMap<>(64);
+	final Map<ListenerCacheKey, CachedListenerRetriever> retrieverCache = new ConcurrentHashMap<>(64);
 
 	@Nullable
 	private ClassLoader beanClassLoader;
@@ -177,32 +182,34 @@ public abstract class AbstractApplicationEventMulticaster
 		Class<?> sourceType = (source != null ? source.getClass() : null);
 		ListenerCacheKey cacheKey = new ListenerCacheKey(eventType, sourceType);
 
-		// Quick check for existing entry on ConcurrentHashMap...
-		ListenerRetriever retriever = this.retrieverCache.get(cacheKey);
-		if (retriever != null) {
-			return retriever.getApplicationListeners();
-		}
-
-		if (this.beanClassLoader == null ||
-				(ClassUtils.isCacheSafe(event.getClass(), this.beanClassLoader) &&
-						(sourceType == null || ClassUtils.isCacheSafe(sourceType, this.beanClassLoader)))) {
-			// Fully synchronized building and caching of a ListenerRetriever
-			synchronized (this.retrievalMutex) {
-				retriever = this.retrieverCache.get(cacheKey);
-				if (retriever != null) {
-					return retriever.getApplicationListeners();
+		// Potential new retriever to populate
+		CachedListenerRetriever newRetriever = null;
+
+		// Quick check for existing entry on ConcurrentHashMap
+		CachedListenerRetriever existingRetriever = this.retrieverCache.get(cacheKey);
+		if (existingRetriever == null) {
+			// Caching a new ListenerRetriever if possible
+			if (this.beanClassLoader == null ||
+					(ClassUtils.isCacheSafe(event.getClass(), this.beanClassLoader) &&
+							(sourceType == null || ClassUtils.isCacheSafe(sourceType, this.beanClassLoader)))) {
+				newRetriever = new CachedListenerRetriever();
+				existingRetriever = this.retrieverCache.putIfAbsent(cacheKey, newRetriever);
+				if (existingRetriever != null) {
+					newRetriever = null;  // no need to populate it in retrieveApplicationListeners
 				}
-				retriever = new ListenerRetriever(true);
-				Collection<ApplicationListener<?>> listeners =
-						retrieveApplicationListeners(eventType, sourceType, retriever);
-				this.retrieverCache.put(cacheKey, retriever);
-				return listeners;
 			}
 		}
-		else {
-			// No ListenerRetriever caching -> no synchronization necessary
-			return retrieveApplicationListeners(eventType, sourceType, null);
+
+		if (existingRetriever != null) {
+			Collection<ApplicationListener<?>> result = existingRetriever.getApplicationListeners();
+			if (result != null) {
+				return result;
+			}
+			// If result is null, the existing retriever is not fully populated yet by another thread.
+			// Proceed like caching wasn't possible for this current local attempt.
 		}
+
+		return retrieveApplicationListeners(eventType, sourceType, newRetriever);
 	}
 
 	/**
@@ -213,9 +220,12 @@ public abstract class AbstractApplicationEventMulticaster
 	 * @return the pre-filtered list of application listeners for the given event and source type
 	 */
 	private Collection<ApplicationListener<?>> retrieveApplicationListeners(
-			ResolvableType eventType, @Nullable Class<?> sourceType, @Nullable ListenerRetriever retriever) {
+			ResolvableType eventType, @Nullable Class<?> sourceType, @Nullable CachedListenerRetriever retriever) {
 
 		List<ApplicationListener<?>> allListeners = new ArrayList<>();
+		Set<ApplicationListener<?>> filteredListeners = (retriever != null ? new LinkedHashSet<>() : null);
+		Set<String> filteredListenerBeans = (retriever != null ? new LinkedHashSet<>() : null);
+
 		Set<ApplicationListener<?>> listeners;
 		Set<String> listenerBeans;
 		synchronized (this.retrievalMutex) {
@@ -227,8 +237,8 @@ public abstract class AbstractApplicationEventMulticaster
 		// from ApplicationListenerDetector (singleton beans and inner beans).
 		for (ApplicationListener<?> listener : listeners) {
 			if (supportsEvent(listener, eventType, sourceType)) {
-				if (retriever != null) {
-					retriever.applicationListeners.add(listener);
+				if (filteredListeners != null) {
+					filteredListeners.add(listener);
 				}
 				allListeners.add(listener);
 			}
@@ -244,12 +254,12 @@ public abstract class AbstractApplicationEventMulticaster
 						ApplicationListener<?> listener =
 								beanFactory.getBean(listenerBeanName, ApplicationListener.class);
 						if (!allListeners.contains(listener) && supportsEvent(listener, eventType, sourceType)) {
-							if (retriever != null) {
+							if (filteredListeners != null) {
 								if (beanFactory.isSingleton(listenerBeanName)) {
-									retriever.applicationListeners.add(listener);
+									filteredListeners.add(listener);
 								}
 								else {
-									retriever.applicationListenerBeans.add(listenerBeanName);
+									filteredListenerBeans.add(listenerBeanName);
 								}
 							}
 							allListeners.add(listener);
@@ -260,8 +270,8 @@ public abstract class AbstractApplicationEventMulticaster
 						// ApplicationListenerDetector, possibly ruled out by additional
 						// BeanDefinition metadata (e.g. factory method generics) above.
 						Object listener = beanFactory.getSingleton(listenerBeanName);
-						if (retriever != null) {
-							retriever.applicationListeners.remove(listener);
+						if (filteredListeners != null) {
+							filteredListeners.remove(listener);
 						}
 						allListeners.remove(listener);
 					}
@@ -274,9 +284,15 @@ public abstract class AbstractApplicationEventMulticaster
 		}
 
 		AnnotationAwareOrderComparator.sort(allListeners);
-		if (retriever != null && retriever.applicationListenerBeans.isEmpty()) {
-			retriever.applicationListeners.clear();
-			retriever.applicationListeners.addAll(allListeners);
+		if (retriever != null) {
+			if (filteredListenerBeans.isEmpty()) {
+				retriever.applicationListeners = new LinkedHashSet<>(allListeners);
+				retriever.applicationListenerBeans = filteredListenerBeans;
+			}
+			else {
+				retriever.applicationListeners = filteredListeners;
+				retriever.applicationListenerBeans = filteredListenerBeans;
+			}
 		}
 		return allListeners;
 	}
@@ -414,18 +430,58 @@ public abstract class AbstractApplicationEventMulticaster
 	 * Helper class that encapsulates a specific set of target listeners,
 	 * allowing for efficient retrieval of pre-filtered listeners.
 	 * <p>An instance of this helper gets cached per event type and source type.
+	 * Its listener sets are published once fully populated, so retrieval
+	 * does not require any locking.
 	 */
-	private class ListenerRetriever {
+	private class CachedListenerRetriever {
 
-		public final Set<ApplicationListener<?>> applicationListeners = new LinkedHashSet<>();
+		@Nullable
+		public volatile Set<ApplicationListener<?>> applicationListeners;
 
-		public final Set<String> applicationListenerBeans = new LinkedHashSet<>();
+		@Nullable
+		public volatile Set<String> applicationListenerBeans;
 
-		private final boolean preFiltered;
+		@Nullable
+		public Collection<ApplicationListener<?>> getApplicationListeners() {
+			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
+			Set<String> applicationListenerBeans = this.applicationListenerBeans;
+			if (applicationListeners == null || applicationListenerBeans == null) {
+				// Not fully populated yet
+				return null;
+			}
 
-		public ListenerRetriever(boolean preFiltered) {
-			this.preFiltered = preFiltered;
+			List<ApplicationListener<?>> allListeners = new ArrayList<>(
+					applicationListeners.size() + applicationListenerBeans.size());
+			allListeners.addAll(applicationListeners);
+			if (!applicationListenerBeans.isEmpty()) {
+				BeanFactory beanFactory = getBeanFactory();
+				for (String listenerBeanName : applicationListenerBeans) {
+					try {
+						allListeners.add(beanFactory.getBean(listenerBeanName, ApplicationListener.class));
+					}
+					catch (NoSuchBeanDefinitionException ex) {
+						// Singleton listener instance (without backing bean definition) disappeared -
+						// probably in the middle of the destruction phase
+					}
+				}
+			}
+			if (!applicationListenerBeans.isEmpty()) {
+				AnnotationAwareOrderComparator.sort(allListeners);
+			}
+			return allListeners;
 		}
+	}
+
+
+	/**
+	 * Helper class that encapsulates a general set of target listeners,
+	 * as registered with this multicaster.
+	 */
+	private class DefaultListenerRetriever {
+
+		public final Set<ApplicationListener<?>> applicationListeners = new LinkedHashSet<>();
+
+		public final Set<String> applicationListenerBeans = new LinkedHashSet<>();
 
 		public Collection<ApplicationListener<?>> getApplicationListeners() {
 			List<ApplicationListener<?>> allListeners = new ArrayList<>(
@@ -436,7 +492,7 @@ public abstract class AbstractApplicationEventMulticaster
 				for (String listenerBeanName : this.applicationListenerBeans) {
 					try {
 						ApplicationListener<?> listener = beanFactory.getBean(listenerBeanName, ApplicationListener.class);
-						if (this.preFiltered || !allListeners.contains(listener)) {
+						if (!allListeners.contains(listener)) {
 							allListeners.add(listener);
 						}
 					}
@@ -446,9 +502,7 @@ public abstract class AbstractApplicationEventMulticaster
 					}
 				}
 			}
-			if (!this.preFiltered || !this.applicationListenerBeans.isEmpty()) {
-				AnnotationAwareOrderComparator.sort(allListeners);
-			}
+			AnnotationAwareOrderComparator.sort(allListeners);
 			return allListeners;
 		}
 	}
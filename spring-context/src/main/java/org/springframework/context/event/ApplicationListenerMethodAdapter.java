@@ -24,7 +24,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,6 +43,7 @@ import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.lang.Nullable;
@@ -86,6 +90,9 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	@Nullable
 	private final String condition;
 
+	@Nullable
+	private final String executorName;
+
 	private final int order;
 
 	@Nullable
@@ -94,6 +101,11 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	@Nullable
 	private EventExpressionEvaluator evaluator;
 
+	@Nullable
+	private volatile Executor executor;
+
+	private final Map<Class<?>, ResolvableType> declaredEventTypeCache = new ConcurrentHashMap<>(8);
+
 
 	public ApplicationListenerMethodAdapter(String beanName, Class<?> targetClass, Method method) {
 		this.beanName = beanName;
@@ -105,7 +117,9 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		EventListener ann = AnnotatedElementUtils.findMergedAnnotation(this.targetMethod, EventListener.class);
 		this.declaredEventTypes = resolveDeclaredEventTypes(method, ann);
 		this.condition = (ann != null ? ann.condition() : null);
+		this.executorName = (ann != null && StringUtils.hasText(ann.executor()) ? ann.executor() : null);
 		this.order = resolveOrder(this.targetMethod);
+		ReflectionUtils.makeAccessible(this.method);
 	}
 
 	private static List<ResolvableType> resolveDeclaredEventTypes(Method method, @Nullable EventListener ann) {
@@ -300,7 +314,6 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			return null;
 		}
 
-		ReflectionUtils.makeAccessible(this.method);
 		try {
 			return this.method.invoke(bean, args);
 		}
@@ -343,6 +356,30 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		return this.condition;
 	}
 
+	/**
+	 * Return the {@link Executor} to invoke this listener with, if any.
+	 * <p>Resolves the bean named by the {@code executor} attribute of the
+	 * {@link EventListener} annotation, or any matching attribute on a
+	 * composed annotation that is meta-annotated with {@code @EventListener}.
+	 * @return the executor, or {@code null} for invocation by the multicaster
+	 * on its default thread
+	 * @since 5.2.3
+	 * @see SimpleApplicationEventMulticaster#determineListenerExecutor
+	 */
+	@Nullable
+	public Executor getExecutor() {
+		if (this.executorName == null) {
+			return null;
+		}
+		Executor executor = this.executor;
+		if (executor == null) {
+			Assert.notNull(this.applicationContext, "ApplicationContext must not be null");
+			executor = this.applicationContext.getBean(this.executorName, Executor.class);
+			this.executor = executor;
+		}
+		return executor;
+	}
+
 	/**
 	 * Add additional details such as the bean type and method signature to
 	 * the given error message.
@@ -391,8 +428,38 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		return sb.toString();
 	}
 
+	/**
+	 * Determine the declared event type matching the given event, reusing a
+	 * previous determination for the same event class or payload class.
+	 * Only payload events with a plain {@code PayloadApplicationEvent} class
+	 * and a payload without custom generics qualify for such reuse.
+	 */
 	@Nullable
 	private ResolvableType getResolvableType(ApplicationEvent event) {
+		Class<?> routingKey = null;
+		if (event instanceof PayloadApplicationEvent) {
+			Object payload = ((PayloadApplicationEvent<?>) event).getPayload();
+			if (event.getClass() == PayloadApplicationEvent.class &&
+					!(payload instanceof ApplicationEvent) && !(payload instanceof ResolvableTypeProvider)) {
+				routingKey = payload.getClass();
+			}
+		}
+		else {
+			routingKey = event.getClass();
+		}
+		if (routingKey == null || !ClassUtils.isCacheSafe(routingKey, this.method.getDeclaringClass().getClassLoader())) {
+			return resolveDeclaredEventType(event);
+		}
+		ResolvableType declaredEventType = this.declaredEventTypeCache.get(routingKey);
+		if (declaredEventType == null) {
+			declaredEventType = resolveDeclaredEventType(event);
+			this.declaredEventTypeCache.put(routingKey, (declaredEventType != null ? declaredEventType : ResolvableType.NONE));
+		}
+		return (declaredEventType != ResolvableType.NONE ? declaredEventType : null);
+	}
+
+	@Nullable
+	private ResolvableType resolveDeclaredEventType(ApplicationEvent event) {
 		ResolvableType payloadType = null;
 		if (event instanceof PayloadApplicationEvent) {
 			PayloadApplicationEvent<?> payloadEvent = (PayloadApplicationEvent<?>) event;
@@ -26,22 +26,43 @@ import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.context.expression.CachedExpressionEvaluator;
 import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.SpringProperties;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 
 /**
  * Utility class for handling SpEL expression parsing for application events.
  * <p>Meant to be used as a reusable, thread-safe component.
  *
+ * <p>Since conditions are evaluated for every matching event, they are compiled
+ * in {@link SpelCompilerMode#MIXED} mode unless a compiler mode has been set
+ * globally through the {@code spring.expression.compiler.mode} property.
+ *
  * @author Stephane Nicoll
  * @since 4.2
  * @see CachedExpressionEvaluator
  */
 class EventExpressionEvaluator extends CachedExpressionEvaluator {
 
+	private static final String COMPILER_MODE_PROPERTY_NAME = "spring.expression.compiler.mode";
+
 	private final Map<ExpressionKey, Expression> conditionCache = new ConcurrentHashMap<>(64);
 
 
+	/**
+	 * Create a new instance with a compiling {@link SpelExpressionParser},
+	 * unless configured otherwise.
+	 */
+	public EventExpressionEvaluator() {
+		super(new SpelExpressionParser(new SpelParserConfiguration(
+				SpringProperties.getProperty(COMPILER_MODE_PROPERTY_NAME) != null ? null : SpelCompilerMode.MIXED,
+				null)));
+	}
+
+
 	/**
 	 * Determine if the condition defined by the specified expression evaluates
 	 * to {@code true}.
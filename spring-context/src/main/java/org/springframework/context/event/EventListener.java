@@ -73,6 +73,10 @@ import org.springframework.core.annotation.AliasFor;
  * to publish the event manually.</li>
  * </ul>
  *
+ * <p>Alternatively, the {@link #executor} attribute may refer to an
+ * {@link java.util.concurrent.Executor} bean to dispatch events to,
+ * with the same limitations applying.
+ *
  * <h3>Ordering Listeners</h3>
  * <p>It is also possible to define the order in which listeners for a
  * certain event are to be invoked. To do so, add Spring's common
@@ -128,4 +132,21 @@ public @interface EventListener {
 	 */
 	String condition() default "";
 
+	/**
+	 * The name of an {@link java.util.concurrent.Executor} bean to invoke
+	 * this listener with.
+	 * <p>The default is {@code ""}, meaning the listener is invoked along with
+	 * the other listeners of an event, on the calling thread or the multicaster's
+	 * {@linkplain SimpleApplicationEventMulticaster#setTaskExecutor task executor}.
+	 * <p>With {@link SimpleApplicationEventMulticaster}, all listeners of an event
+	 * which share the same executor are invoked within a single task, in their
+	 * specified order. Bounded queues and overflow policies are a matter of the
+	 * executor configuration, e.g. the queue capacity and rejected execution
+	 * handler of a {@link org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor
+	 * ThreadPoolTaskExecutor}, with a caller-runs policy providing back-pressure
+	 * towards the event publisher.
+	 * @since 5.2.3
+	 */
+	String executor() default "";
+
 }
@@ -16,6 +16,11 @@
 
 package org.springframework.context.event;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
 import org.apache.commons.logging.Log;
@@ -41,6 +46,12 @@ import org.springframework.util.ErrorHandler;
  * but adds minimal overhead. Specify an alternative task executor to have
  * listeners executed in different threads, for example from a thread pool.
  *
+ * <p>Individual listeners may also declare an executor of their own, e.g. through
+ * the {@link EventListener#executor() executor} attribute of {@code @EventListener}.
+ * All listeners of an event which share such an executor are grouped into a
+ * single task per event, invoking them in their specified order, while the
+ * remaining listeners are invoked as described above.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @author Stephane Nicoll
@@ -131,7 +142,25 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 	public void multicastEvent(final ApplicationEvent event, @Nullable ResolvableType eventType) {
 		ResolvableType type = (eventType != null ? eventType : resolveDefaultEventType(event));
 		Executor executor = getTaskExecutor();
-		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+		Collection<ApplicationListener<?>> listeners = getApplicationListeners(event, type);
+		Map<Executor, List<ApplicationListener<?>>> listenerGroups = null;
+		for (ApplicationListener<?> listener : listeners) {
+			Executor listenerExecutor = determineListenerExecutor(listener);
+			if (listenerExecutor != null) {
+				if (listenerGroups == null) {
+					listenerGroups = new LinkedHashMap<>(4);
+				}
+				listenerGroups.computeIfAbsent(listenerExecutor, key -> new ArrayList<>()).add(listener);
+			}
+		}
+		if (listenerGroups != null) {
+			listenerGroups.forEach((groupExecutor, groupListeners) ->
+					groupExecutor.execute(() -> invokeListeners(groupListeners, event)));
+		}
+		for (ApplicationListener<?> listener : listeners) {
+			if (listenerGroups != null && determineListenerExecutor(listener) != null) {
+				continue;
+			}
 			if (executor != null) {
 				executor.execute(() -> invokeListener(listener, event));
 			}
@@ -145,6 +174,31 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		return ResolvableType.forInstance(event);
 	}
 
+	/**
+	 * Determine the executor to invoke the given listener with, if it declares
+	 * an executor of its own.
+	 * <p>The default implementation detects the executor of an
+	 * {@link ApplicationListenerMethodAdapter}, as specified through
+	 * {@link EventListener#executor()}.
+	 * @param listener the ApplicationListener to check
+	 * @return the listener-specific executor, or {@code null} for invocation
+	 * on the calling thread or the {@linkplain #setTaskExecutor task executor}
+	 * @since 5.2.3
+	 */
+	@Nullable
+	protected Executor determineListenerExecutor(ApplicationListener<?> listener) {
+		if (listener instanceof ApplicationListenerMethodAdapter) {
+			return ((ApplicationListenerMethodAdapter) listener).getExecutor();
+		}
+		return null;
+	}
+
+	private void invokeListeners(List<ApplicationListener<?>> listeners, ApplicationEvent event) {
+		for (ApplicationListener<?> listener : listeners) {
+			invokeListener(listener, event);
+		}
+	}
+
 	/**
 	 * Invoke the given listener with the given event.
 	 * @param listener the ApplicationListener to invoke
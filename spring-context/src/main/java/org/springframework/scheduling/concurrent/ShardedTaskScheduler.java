@@ -0,0 +1,521 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.SchedulingTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ErrorHandler;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureTask;
+
+/**
+ * Implementation of Spring's {@link TaskScheduler} interface, distributing
+ * tasks across several independent {@link ScheduledThreadPoolExecutor} shards.
+ *
+ * <p>A single {@code ScheduledThreadPoolExecutor} keeps all scheduled tasks in
+ * one lock-protected delay queue, which turns into a point of contention with
+ * many thousands of scheduled tasks, in particular with trigger-based tasks
+ * that reschedule themselves after every execution. This scheduler assigns each
+ * task to a shard in a round-robin fashion: A trigger-based task sticks to its
+ * shard for all of its executions, so the load is spread across the shards'
+ * delay queues, each with a lock and a heap of its own.
+ *
+ * <p>Timing accuracy is the same as with {@link ThreadPoolTaskScheduler}.
+ * Note however that tasks on different shards do not compete for the same
+ * threads: a task can only run on a thread of its own shard.
+ *
+ * <p>Per-task execution metrics can be collected through a
+ * {@link #setTaskDecorator TaskDecorator}, which gets applied once per
+ * submitted or scheduled task and then wraps each of its executions.
+ *
+ * @author Philipp Kessler
+ * @since 5.2.3
+ * @see #setShardCount
+ * @see #setPoolSizePerShard
+ * @see ThreadPoolTaskScheduler
+ */
+@SuppressWarnings("serial")
+public class ShardedTaskScheduler extends ExecutorConfigurationSupport
+		implements AsyncListenableTaskExecutor, SchedulingTaskExecutor, TaskScheduler {
+
+	private volatile int shardCount = Runtime.getRuntime().availableProcessors();
+
+	private volatile int poolSizePerShard = 1;
+
+	private volatile boolean removeOnCancelPolicy = true;
+
+	@Nullable
+	private volatile ErrorHandler errorHandler;
+
+	@Nullable
+	private TaskDecorator taskDecorator;
+
+	@Nullable
+	private ScheduledThreadPoolExecutor[] shards;
+
+	private final AtomicInteger shardIndex = new AtomicInteger();
+
+	// Underlying ScheduledFutureTask to user-level ListenableFuture handle, if any
+	private final Map<Object, ListenableFuture<?>> listenableFutureMap =
+			new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+
+	/**
+	 * Set the number of shards, i.e. the number of independent
+	 * {@code ScheduledThreadPoolExecutor} instances to distribute tasks across.
+	 * <p>Default is the number of available processors.
+	 * Needs to be specified before initialization.
+	 */
+	public void setShardCount(int shardCount) {
+		Assert.isTrue(shardCount > 0, "'shardCount' must be 1 or higher");
+		this.shardCount = shardCount;
+	}
+
+	/**
+	 * Set the pool size of each shard's {@code ScheduledThreadPoolExecutor}.
+	 * Default is 1.
+	 * <p><b>This setting can be modified at runtime, for example through JMX.</b>
+	 */
+	public void setPoolSizePerShard(int poolSizePerShard) {
+		Assert.isTrue(poolSizePerShard > 0, "'poolSizePerShard' must be 1 or higher");
+		this.poolSizePerShard = poolSizePerShard;
+		ScheduledThreadPoolExecutor[] shards = this.shards;
+		if (shards != null) {
+			for (ScheduledThreadPoolExecutor shard : shards) {
+				shard.setCorePoolSize(poolSizePerShard);
+			}
+		}
+	}
+
+	/**
+	 * Set the remove-on-cancel mode on each {@link ScheduledThreadPoolExecutor} shard.
+	 * <p>Default is {@code true}, immediately removing cancelled tasks from the
+	 * delay queues, since a large number of dynamically scheduled tasks is the
+	 * typical use case for this scheduler.
+	 * <p><b>This setting can be modified at runtime, for example through JMX.</b>
+	 */
+	public void setRemoveOnCancelPolicy(boolean removeOnCancelPolicy) {
+		this.removeOnCancelPolicy = removeOnCancelPolicy;
+		ScheduledThreadPoolExecutor[] shards = this.shards;
+		if (shards != null) {
+			for (ScheduledThreadPoolExecutor shard : shards) {
+				shard.setRemoveOnCancelPolicy(removeOnCancelPolicy);
+			}
+		}
+	}
+
+	/**
+	 * Set a custom {@link ErrorHandler} strategy.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Specify a custom {@link TaskDecorator} to be applied to each user-supplied
+	 * {@code Runnable}/{@code Callable}.
+	 * <p>The decorator gets applied once per task: For repeated executions of a
+	 * trigger-based or periodic task, the same decorated {@code Runnable} gets
+	 * invoked each time, so that a decorator can keep per-task execution metrics
+	 * such as the number of executions, failures or the accumulated run time.
+	 * Errors thrown by the task are visible to the decorator before they reach
+	 * the {@link #setErrorHandler ErrorHandler}.
+	 */
+	public void setTaskDecorator(TaskDecorator taskDecorator) {
+		this.taskDecorator = taskDecorator;
+	}
+
+
+	@Override
+	protected ExecutorService initializeExecutor(
+			ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+
+		ScheduledThreadPoolExecutor[] shards = new ScheduledThreadPoolExecutor[this.shardCount];
+		for (int i = 0; i < shards.length; i++) {
+			shards[i] = createShard(this.poolSizePerShard, threadFactory, rejectedExecutionHandler);
+			shards[i].setRemoveOnCancelPolicy(this.removeOnCancelPolicy);
+		}
+		this.shards = shards;
+		return new ShardedExecutorService();
+	}
+
+	/**
+	 * Create a new {@link ScheduledThreadPoolExecutor} instance for a shard.
+	 * <p>Can be overridden in subclasses to provide custom
+	 * {@code ScheduledThreadPoolExecutor} instances.
+	 * @param poolSize the specified pool size per shard
+	 * @param threadFactory the ThreadFactory to use
+	 * @param rejectedExecutionHandler the RejectedExecutionHandler to use
+	 * @return a new ScheduledThreadPoolExecutor instance
+	 * @see #afterPropertiesSet()
+	 */
+	protected ScheduledThreadPoolExecutor createShard(
+			int poolSize, ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+
+		return new ScheduledThreadPoolExecutor(poolSize, threadFactory, rejectedExecutionHandler);
+	}
+
+	private ScheduledThreadPoolExecutor[] getShards() {
+		ScheduledThreadPoolExecutor[] shards = this.shards;
+		Assert.state(shards != null, "ShardedTaskScheduler not initialized");
+		return shards;
+	}
+
+	/**
+	 * Select the shard for a new task, in a round-robin fashion.
+	 */
+	private ScheduledThreadPoolExecutor nextShard() {
+		ScheduledThreadPoolExecutor[] shards = getShards();
+		return shards[(this.shardIndex.getAndIncrement() & Integer.MAX_VALUE) % shards.length];
+	}
+
+	/**
+	 * Return the number of shards.
+	 */
+	public int getShardCount() {
+		ScheduledThreadPoolExecutor[] shards = this.shards;
+		return (shards != null ? shards.length : this.shardCount);
+	}
+
+	/**
+	 * Return the current setting for the remove-on-cancel mode.
+	 */
+	public boolean isRemoveOnCancelPolicy() {
+		return this.removeOnCancelPolicy;
+	}
+
+	/**
+	 * Return the number of currently active threads across all shards.
+	 * @see java.util.concurrent.ScheduledThreadPoolExecutor#getActiveCount()
+	 */
+	public int getActiveCount() {
+		ScheduledThreadPoolExecutor[] shards = this.shards;
+		int count = 0;
+		if (shards != null) {
+			for (ScheduledThreadPoolExecutor shard : shards) {
+				count += shard.getActiveCount();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the number of tasks currently waiting across all shards,
+	 * including scheduled tasks which are not due yet.
+	 */
+	public int getQueueSize() {
+		ScheduledThreadPoolExecutor[] shards = this.shards;
+		int count = 0;
+		if (shards != null) {
+			for (ScheduledThreadPoolExecutor shard : shards) {
+				count += shard.getQueue().size();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the approximate number of task executions completed across all shards.
+	 * @see java.util.concurrent.ScheduledThreadPoolExecutor#getCompletedTaskCount()
+	 */
+	public long getCompletedTaskCount() {
+		ScheduledThreadPoolExecutor[] shards = this.shards;
+		long count = 0;
+		if (shards != null) {
+			for (ScheduledThreadPoolExecutor shard : shards) {
+				count += shard.getCompletedTaskCount();
+			}
+		}
+		return count;
+	}
+
+
+	// SchedulingTaskExecutor implementation
+
+	@Override
+	public void execute(Runnable task) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		try {
+			executor.execute(errorHandlingTask(task, false));
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public void execute(Runnable task, long startTimeout) {
+		execute(task);
+	}
+
+	@Override
+	public Future<?> submit(Runnable task) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		try {
+			return executor.submit(errorHandlingTask(task, false));
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		try {
+			Callable<T> taskToUse = task;
+			ErrorHandler errorHandler = this.errorHandler;
+			if (errorHandler != null) {
+				taskToUse = () -> {
+					try {
+						return task.call();
+					}
+					catch (Throwable ex) {
+						errorHandler.handleError(ex);
+						return null;
+					}
+				};
+			}
+			TaskDecorator taskDecorator = this.taskDecorator;
+			if (taskDecorator != null) {
+				FutureTask<T> future = new FutureTask<>(taskToUse);
+				executor.execute(taskDecorator.decorate(future));
+				return future;
+			}
+			return executor.submit(taskToUse);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ListenableFuture<?> submitListenable(Runnable task) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		try {
+			ListenableFutureTask<Object> listenableFuture = new ListenableFutureTask<>(task, null);
+			executeAndTrack(executor, listenableFuture);
+			return listenableFuture;
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public <T> ListenableFuture<T> submitListenable(Callable<T> task) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		try {
+			ListenableFutureTask<T> listenableFuture = new ListenableFutureTask<>(task);
+			executeAndTrack(executor, listenableFuture);
+			return listenableFuture;
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	private void executeAndTrack(ExecutorService executor, ListenableFutureTask<?> listenableFuture) {
+		Future<?> scheduledFuture = executor.submit(errorHandlingTask(listenableFuture, false));
+		this.listenableFutureMap.put(scheduledFuture, listenableFuture);
+		listenableFuture.addCallback(result -> this.listenableFutureMap.remove(scheduledFuture),
+				ex -> this.listenableFutureMap.remove(scheduledFuture));
+	}
+
+	@Override
+	protected void cancelRemainingTask(Runnable task) {
+		super.cancelRemainingTask(task);
+		// Cancel associated user-level ListenableFuture handle as well
+		ListenableFuture<?> listenableFuture = this.listenableFutureMap.get(task);
+		if (listenableFuture != null) {
+			listenableFuture.cancel(true);
+		}
+	}
+
+
+	// TaskScheduler implementation
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		try {
+			ErrorHandler errorHandler = this.errorHandler;
+			if (errorHandler == null) {
+				errorHandler = TaskUtils.getDefaultErrorHandler(true);
+			}
+			return new ReschedulingRunnable(decorateTask(task), trigger, executor, errorHandler).schedule();
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		long initialDelay = startTime.getTime() - System.currentTimeMillis();
+		try {
+			return executor.schedule(errorHandlingTask(task, false), initialDelay, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		long initialDelay = startTime.getTime() - System.currentTimeMillis();
+		try {
+			return executor.scheduleAtFixedRate(errorHandlingTask(task, true), initialDelay, period, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		try {
+			return executor.scheduleAtFixedRate(errorHandlingTask(task, true), 0, period, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime, long delay) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		long initialDelay = startTime.getTime() - System.currentTimeMillis();
+		try {
+			return executor.scheduleWithFixedDelay(errorHandlingTask(task, true), initialDelay, delay, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+		ScheduledThreadPoolExecutor executor = nextShard();
+		try {
+			return executor.scheduleWithFixedDelay(errorHandlingTask(task, true), 0, delay, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task, ex);
+		}
+	}
+
+
+	private Runnable errorHandlingTask(Runnable task, boolean isRepeatingTask) {
+		return TaskUtils.decorateTaskWithErrorHandler(decorateTask(task), this.errorHandler, isRepeatingTask);
+	}
+
+	private Runnable decorateTask(Runnable task) {
+		TaskDecorator taskDecorator = this.taskDecorator;
+		return (taskDecorator != null ? taskDecorator.decorate(task) : task);
+	}
+
+
+	/**
+	 * Lifecycle view on all shards, as exposed to {@link ExecutorConfigurationSupport}
+	 * for shutdown purposes. Plain task submissions are distributed across the shards.
+	 */
+	private class ShardedExecutorService extends AbstractExecutorService {
+
+		@Override
+		public void execute(Runnable command) {
+			nextShard().execute(command);
+		}
+
+		@Override
+		public void shutdown() {
+			for (ScheduledThreadPoolExecutor shard : getShards()) {
+				shard.shutdown();
+			}
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			List<Runnable> remainingTasks = new ArrayList<>();
+			for (ScheduledThreadPoolExecutor shard : getShards()) {
+				remainingTasks.addAll(shard.shutdownNow());
+			}
+			return remainingTasks;
+		}
+
+		@Override
+		public boolean isShutdown() {
+			for (ScheduledThreadPoolExecutor shard : getShards()) {
+				if (!shard.isShutdown()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			for (ScheduledThreadPoolExecutor shard : getShards()) {
+				if (!shard.isTerminated()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(timeout);
+			for (ScheduledThreadPoolExecutor shard : getShards()) {
+				if (!shard.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Representation of a
+ * <a href="https://www.manpagez.com/man/5/crontab/">Crontab pattern</a>
+ * on top of {@code java.time}, supporting the same six-field syntax as
+ * {@link CronSequenceGenerator}: second, minute, hour, day, month, weekday.
+ *
+ * <p>Each field is compiled into a bitmap on construction, so that the next
+ * matching value of a field is found with a single bit operation, and the
+ * matching days of a month are determined in one step for both the day and
+ * the weekday field. Calculating the {@linkplain #next next match} therefore
+ * takes a constant number of steps per month visited, even for sparse
+ * patterns such as "0 0 0 29 2 *".
+ *
+ * <p>Instances are immutable and thread-safe. For evaluating many expressions
+ * against the same date-time, see {@link #matching(Collection, LocalDateTime)}.
+ *
+ * @author Philipp Kessler
+ * @since 5.2.3
+ * @see CronTrigger
+ */
+public final class CronExpression {
+
+	private static final String[] MONTHS =
+			{"FOO", "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+
+	private static final String[] DAYS = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+	/** Number of years covering a full cycle of the Gregorian calendar. */
+	private static final int MAX_YEARS_TO_SEARCH = 400;
+
+
+	private final String expression;
+
+	private final long seconds;
+
+	private final long minutes;
+
+	private final long hours;
+
+	private final long daysOfMonth;
+
+	private final long months;
+
+	/** Days of week, with bits 1 (Monday) to 7 (Sunday) as in {@link java.time.DayOfWeek}. */
+	private final long daysOfWeek;
+
+	/** Matching days of month, indexed by the day of week of the first day of the month. */
+	private final long[] daysByFirstDayOfWeek = new long[7];
+
+
+	private CronExpression(String expression, String[] fields) {
+		this.expression = expression;
+		this.seconds = parseField(fields[0], 0, 60);
+		this.minutes = parseField(fields[1], 0, 60);
+		this.hours = parseField(fields[2], 0, 24);
+		// Days of month start with 1, so drop a potential 0 from the front
+		this.daysOfMonth = parseDays(fields[3], 32) & ~1L;
+		this.months = parseField(replaceOrdinals(fields[4], MONTHS), 1, 13);
+		long days = parseDays(replaceOrdinals(fields[5], DAYS), 8);
+		if ((days & 1L) != 0) {
+			// Sunday can be represented as 0 or 7
+			days = (days | (1L << 7)) & ~1L;
+		}
+		this.daysOfWeek = days;
+
+		for (int first = 0; first < 7; first++) {
+			long mask = 0;
+			for (int day = 1; day <= 31; day++) {
+				int dayOfWeek = (first + day - 1) % 7 + 1;
+				if ((this.daysOfWeek & (1L << dayOfWeek)) != 0) {
+					mask |= (1L << day);
+				}
+			}
+			this.daysByFirstDayOfWeek[first] = mask & this.daysOfMonth;
+		}
+	}
+
+
+	/**
+	 * Parse the given cron expression.
+	 * @param expression a space-separated list of six time fields
+	 * @return the parsed expression
+	 * @throws IllegalArgumentException if the expression cannot be parsed
+	 */
+	public static CronExpression parse(String expression) {
+		Assert.hasLength(expression, "Expression string must not be empty");
+		String[] fields = StringUtils.tokenizeToStringArray(expression, " ");
+		if (fields.length != 6) {
+			throw new IllegalArgumentException(String.format(
+					"Cron expression must consist of 6 fields (found %d in \"%s\")", fields.length, expression));
+		}
+		return new CronExpression(expression, fields);
+	}
+
+	/**
+	 * Determine whether the specified expression represents a valid cron pattern.
+	 * @param expression the expression to evaluate
+	 * @return {@code true} if the given expression is a valid cron expression
+	 */
+	public static boolean isValidExpression(@Nullable String expression) {
+		if (!StringUtils.hasLength(expression)) {
+			return false;
+		}
+		try {
+			parse(expression);
+			return true;
+		}
+		catch (IllegalArgumentException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Return the expressions from the given collection which match the given
+	 * date-time, in iteration order.
+	 * <p>The date-time is decomposed into its fields only once, with each
+	 * expression then being checked through a few bit operations.
+	 * @param expressions the expressions to evaluate
+	 * @param dateTime the date-time to match (fractions of a second are ignored)
+	 * @return the matching expressions (never {@code null})
+	 */
+	public static List<CronExpression> matching(Collection<CronExpression> expressions, LocalDateTime dateTime) {
+		long second = 1L << dateTime.getSecond();
+		long minute = 1L << dateTime.getMinute();
+		long hour = 1L << dateTime.getHour();
+		long dayOfMonth = 1L << dateTime.getDayOfMonth();
+		long month = 1L << dateTime.getMonthValue();
+		long dayOfWeek = 1L << dateTime.getDayOfWeek().getValue();
+		List<CronExpression> result = new ArrayList<>();
+		for (CronExpression expression : expressions) {
+			if (expression.matches(second, minute, hour, dayOfMonth, month, dayOfWeek)) {
+				result.add(expression);
+			}
+		}
+		return result;
+	}
+
+
+	/**
+	 * Determine whether the given date-time matches this expression.
+	 * @param dateTime the date-time to match (fractions of a second are ignored)
+	 * @return {@code true} if all fields of the date-time match
+	 */
+	public boolean matches(LocalDateTime dateTime) {
+		return matches(1L << dateTime.getSecond(), 1L << dateTime.getMinute(), 1L << dateTime.getHour(),
+				1L << dateTime.getDayOfMonth(), 1L << dateTime.getMonthValue(),
+				1L << dateTime.getDayOfWeek().getValue());
+	}
+
+	private boolean matches(long second, long minute, long hour, long dayOfMonth, long month, long dayOfWeek) {
+		return ((this.seconds & second) != 0 && (this.minutes & minute) != 0 && (this.hours & hour) != 0 &&
+				(this.daysOfMonth & dayOfMonth) != 0 && (this.months & month) != 0 &&
+				(this.daysOfWeek & dayOfWeek) != 0);
+	}
+
+	/**
+	 * Calculate the next date-time matching this expression, strictly after
+	 * the given one. The result has a whole number of seconds and is in the
+	 * same time zone as the given date-time.
+	 * <p>Local times which do not exist due to a daylight saving gap are
+	 * skipped. For local times which occur twice, the earlier occurrence
+	 * is used.
+	 * @param dateTime the date-time to start from
+	 * @return the next matching date-time
+	 * @throws IllegalArgumentException if the expression does not match any
+	 * date within a full cycle of the calendar (e.g. "0 0 0 30 2 *")
+	 */
+	public ZonedDateTime next(ZonedDateTime dateTime) {
+		ZoneRules rules = dateTime.getZone().getRules();
+		LocalDateTime candidate = dateTime.toLocalDateTime().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+		while (true) {
+			LocalDateTime match = nextLocal(candidate);
+			ZoneOffsetTransition gap = rules.getTransition(match);
+			if (gap != null && gap.isGap()) {
+				candidate = gap.getDateTimeAfter();
+				continue;
+			}
+			ZonedDateTime result = ZonedDateTime.ofLocal(match, dateTime.getZone(), dateTime.getOffset());
+			if (result.isAfter(dateTime)) {
+				return result;
+			}
+			candidate = match.plusSeconds(1);
+		}
+	}
+
+	/**
+	 * Calculate the first local date-time matching this expression at or after
+	 * the given one, which is expected to have a whole number of seconds.
+	 */
+	private LocalDateTime nextLocal(LocalDateTime dateTime) {
+		LocalDateTime candidate = dateTime;
+		int maxYear = candidate.getYear() + MAX_YEARS_TO_SEARCH;
+		while (candidate.getYear() <= maxYear) {
+			int month = candidate.getMonthValue();
+			int nextMonth = nextSetBit(this.months, month);
+			if (nextMonth == -1) {
+				candidate = LocalDateTime.of(candidate.getYear() + 1, 1, 1, 0, 0);
+				continue;
+			}
+			if (nextMonth != month) {
+				candidate = LocalDateTime.of(candidate.getYear(), nextMonth, 1, 0, 0);
+			}
+
+			int day = candidate.getDayOfMonth();
+			int firstDayOfWeek = Math.floorMod(candidate.getDayOfWeek().getValue() - day, 7);
+			long days = this.daysByFirstDayOfWeek[firstDayOfWeek] &
+					((1L << (candidate.toLocalDate().lengthOfMonth() + 1)) - 1);
+			int nextDay = nextSetBit(days, day);
+			if (nextDay == -1) {
+				candidate = candidate.toLocalDate().withDayOfMonth(1).plusMonths(1).atStartOfDay();
+				continue;
+			}
+			if (nextDay != day) {
+				candidate = candidate.toLocalDate().withDayOfMonth(nextDay).atStartOfDay();
+			}
+
+			int hour = candidate.getHour();
+			int nextHour = nextSetBit(this.hours, hour);
+			if (nextHour == -1) {
+				candidate = candidate.toLocalDate().plusDays(1).atStartOfDay();
+				continue;
+			}
+			if (nextHour != hour) {
+				candidate = candidate.toLocalDate().atTime(nextHour, 0);
+			}
+
+			int minute = candidate.getMinute();
+			int nextMinute = nextSetBit(this.minutes, minute);
+			if (nextMinute == -1) {
+				candidate = candidate.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+				continue;
+			}
+			if (nextMinute != minute) {
+				candidate = candidate.withMinute(nextMinute).withSecond(0);
+			}
+
+			int second = candidate.getSecond();
+			int nextSecond = nextSetBit(this.seconds, second);
+			if (nextSecond == -1) {
+				candidate = candidate.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+				continue;
+			}
+			return candidate.withSecond(nextSecond);
+		}
+		throw new IllegalArgumentException("Cron expression \"" + this.expression +
+				"\" does not match any date within " + MAX_YEARS_TO_SEARCH + " years after " + dateTime);
+	}
+
+	/**
+	 * Return the index of the first bit that is set at or after the given index,
+	 * or -1 if there is none.
+	 */
+	private static int nextSetBit(long bits, int fromIndex) {
+		long remaining = bits & (-1L << fromIndex);
+		return (remaining != 0 ? Long.numberOfTrailingZeros(remaining) : -1);
+	}
+
+
+	// Parsing logic, following CronSequenceGenerator
+
+	/**
+	 * Replace the values in the given list (case insensitive)
+	 * with their index in the list.
+	 */
+	private static String replaceOrdinals(String value, String[] list) {
+		value = value.toUpperCase();
+		for (int i = 0; i < list.length; i++) {
+			value = StringUtils.replace(value, list[i], Integer.toString(i));
+		}
+		return value;
+	}
+
+	private long parseDays(String field, int max) {
+		if (field.contains("?")) {
+			field = "*";
+		}
+		return parseField(field, 0, max);
+	}
+
+	private long parseField(String value, int min, int max) {
+		long bits = 0;
+		for (String field : StringUtils.delimitedListToStringArray(value, ",")) {
+			if (!field.contains("/")) {
+				// Not an incrementer so it must be a range (possibly empty)
+				int[] range = getRange(field, min, max);
+				for (int i = range[0]; i <= range[1]; i++) {
+					bits |= (1L << i);
+				}
+			}
+			else {
+				String[] split = StringUtils.delimitedListToStringArray(field, "/");
+				if (split.length > 2) {
+					throw new IllegalArgumentException("Incrementer has more than two fields: '" +
+							field + "' in expression \"" + this.expression + "\"");
+				}
+				int[] range = getRange(split[0], min, max);
+				if (!split[0].contains("-")) {
+					range[1] = max - 1;
+				}
+				int delta = Integer.parseInt(split[1]);
+				if (delta <= 0) {
+					throw new IllegalArgumentException("Incrementer delta must be 1 or higher: '" +
+							field + "' in expression \"" + this.expression + "\"");
+				}
+				for (int i = range[0]; i <= range[1]; i += delta) {
+					bits |= (1L << i);
+				}
+			}
+		}
+		return bits;
+	}
+
+	private int[] getRange(String field, int min, int max) {
+		int[] result = new int[2];
+		if (field.contains("*")) {
+			result[0] = min;
+			result[1] = max - 1;
+			return result;
+		}
+		if (!field.contains("-")) {
+			result[0] = result[1] = Integer.parseInt(field);
+		}
+		else {
+			String[] split = StringUtils.delimitedListToStringArray(field, "-");
+			if (split.length > 2) {
+				throw new IllegalArgumentException("Range has more than two fields: '" +
+						field + "' in expression \"" + this.expression + "\"");
+			}
+			result[0] = Integer.parseInt(split[0]);
+			result[1] = Integer.parseInt(split[1]);
+		}
+		if (result[0] >= max || result[1] >= max) {
+			throw new IllegalArgumentException("Range exceeds maximum (" + max + "): '" +
+					field + "' in expression \"" + this.expression + "\"");
+		}
+		if (result[0] < min || result[1] < min) {
+			throw new IllegalArgumentException("Range less than minimum (" + min + "): '" +
+					field + "' in expression \"" + this.expression + "\"");
+		}
+		if (result[0] > result[1]) {
+			throw new IllegalArgumentException("Invalid inverted range: '" + field +
+					"' in expression \"" + this.expression + "\"");
+		}
+		return result;
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof CronExpression)) {
+			return false;
+		}
+		CronExpression otherCron = (CronExpression) other;
+		return (this.months == otherCron.months && this.daysOfMonth == otherCron.daysOfMonth &&
+				this.daysOfWeek == otherCron.daysOfWeek && this.hours == otherCron.hours &&
+				this.minutes == otherCron.minutes && this.seconds == otherCron.seconds);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(new long[] {this.months, this.daysOfMonth, this.daysOfWeek,
+				this.hours, this.minutes, this.seconds});
+	}
+
+	/**
+	 * Return the expression string used to create this {@code CronExpression}.
+	 */
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+}
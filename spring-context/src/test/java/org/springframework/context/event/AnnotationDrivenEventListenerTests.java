@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
@@ -616,6 +617,20 @@ public class AnnotationDrivenEventListenerTests {
 		assertThat(listener.order).contains("first", "second", "third");
 	}
 
+	@Test
+	public void listenersWithExecutorGroupedPerEvent() {
+		load(ExecutorTestListener.class);
+		ExecutorTestListener listener = this.context.getBean(ExecutorTestListener.class);
+		DeferredExecutor executor = this.context.getBean("eventExecutor", DeferredExecutor.class);
+
+		this.context.publishEvent("whatever");
+		assertThat(listener.order).containsExactly("sync");
+		assertThat(executor.tasks).hasSize(1);
+
+		executor.tasks.get(0).run();
+		assertThat(listener.order).containsExactly("sync", "first", "second");
+	}
+
 	@Test @Disabled  // SPR-15122
 	public void listenersReceiveEarlyEvents() {
 		load(EventOnPostConstruct.class, OrderedTestListener.class);
@@ -1038,6 +1053,46 @@ public class AnnotationDrivenEventListenerTests {
 	}
 
 
+	@Configuration
+	static class ExecutorTestListener {
+
+		public final List<String> order = new ArrayList<>();
+
+		@Bean
+		public DeferredExecutor eventExecutor() {
+			return new DeferredExecutor();
+		}
+
+		@EventListener(executor = "eventExecutor")
+		@Order(50)
+		public void handleSecond(String payload) {
+			this.order.add("second");
+		}
+
+		@EventListener(executor = "eventExecutor")
+		@Order(-50)
+		public void handleFirst(String payload) {
+			this.order.add("first");
+		}
+
+		@EventListener
+		public void handleSync(String payload) {
+			this.order.add("sync");
+		}
+	}
+
+
+	static class DeferredExecutor implements Executor {
+
+		public final List<Runnable> tasks = new ArrayList<>();
+
+		@Override
+		public void execute(Runnable command) {
+			this.tasks.add(command);
+		}
+	}
+
+
 	static class EventOnPostConstruct {
 
 		@Autowired
@@ -304,6 +304,20 @@ public class ApplicationListenerMethodAdapterTests extends AbstractApplicationEv
 		verify(this.sampleEvents, times(2)).handleStringOrInteger();
 	}
 
+	@Test
+	public void invokeListenerWithSeveralTypesReusesResolvedPayloadType() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringOrInteger");
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "test"));
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, 123));
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, 23.2));
+		verify(this.sampleEvents, times(2)).handleStringOrInteger();
+
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "test2"));
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, 45.6));
+		verify(this.sampleEvents, times(3)).handleStringOrInteger();
+	}
+
 	@Test
 	public void beanInstanceRetrievedAtEveryInvocation() {
 		Method method = ReflectionUtils.findMethod(
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Philipp Kessler
+ */
+public class ShardedTaskSchedulerTests extends AbstractSchedulingTaskExecutorTests {
+
+	private final ShardedTaskScheduler scheduler = new ShardedTaskScheduler();
+
+
+	@Override
+	protected AsyncListenableTaskExecutor buildExecutor() {
+		// Single shard for the common executor tests, which rely on a single thread
+		scheduler.setShardCount(1);
+		scheduler.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		scheduler.afterPropertiesSet();
+		return scheduler;
+	}
+
+
+	@Test
+	public void scheduleTriggerTasksAcrossShards() throws Exception {
+		ShardedTaskScheduler scheduler = new ShardedTaskScheduler();
+		scheduler.setShardCount(4);
+		scheduler.afterPropertiesSet();
+		try {
+			assertThat(scheduler.getShardCount()).isEqualTo(4);
+			Set<Thread> threads = ConcurrentHashMap.newKeySet();
+			CountDownLatch latch = new CountDownLatch(8 * 3);
+			for (int i = 0; i < 8; i++) {
+				scheduler.schedule(() -> {
+					threads.add(Thread.currentThread());
+					latch.countDown();
+				}, new TestTrigger(3));
+			}
+			assertThat(latch.await(1000, TimeUnit.MILLISECONDS)).isTrue();
+			assertThat(threads).hasSize(4);
+		}
+		finally {
+			scheduler.destroy();
+		}
+	}
+
+	@Test
+	public void taskDecoratorAppliedOncePerTask() throws Exception {
+		Map<Runnable, AtomicInteger> executions = new ConcurrentHashMap<>();
+		ShardedTaskScheduler scheduler = new ShardedTaskScheduler();
+		scheduler.setShardCount(2);
+		scheduler.setTaskDecorator(task -> {
+			AtomicInteger count = new AtomicInteger();
+			executions.put(task, count);
+			return () -> {
+				count.incrementAndGet();
+				task.run();
+			};
+		});
+		scheduler.afterPropertiesSet();
+		try {
+			CountDownLatch latch = new CountDownLatch(2 * 3);
+			Runnable task1 = latch::countDown;
+			Runnable task2 = latch::countDown;
+			scheduler.schedule(task1, new TestTrigger(3));
+			scheduler.schedule(task2, new TestTrigger(3));
+			assertThat(latch.await(1000, TimeUnit.MILLISECONDS)).isTrue();
+			assertThat(executions).hasSize(2);
+			assertThat(executions.get(task1).get()).isEqualTo(3);
+			assertThat(executions.get(task2).get()).isEqualTo(3);
+		}
+		finally {
+			scheduler.destroy();
+		}
+	}
+
+	@Test
+	public void cancelledTasksRemovedFromShards() {
+		ShardedTaskScheduler scheduler = new ShardedTaskScheduler();
+		scheduler.setShardCount(2);
+		scheduler.afterPropertiesSet();
+		try {
+			Date startTime = new Date(System.currentTimeMillis() + 60000);
+			ScheduledFuture<?> future1 = scheduler.schedule(() -> {}, startTime);
+			ScheduledFuture<?> future2 = scheduler.schedule(() -> {}, startTime);
+			assertThat(scheduler.getQueueSize()).isEqualTo(2);
+
+			future1.cancel(false);
+			future2.cancel(false);
+			assertThat(scheduler.getQueueSize()).isEqualTo(0);
+		}
+		finally {
+			scheduler.destroy();
+		}
+	}
+
+	@Test
+	public void shutdownCancelsTasksOnAllShards() {
+		ShardedTaskScheduler scheduler = new ShardedTaskScheduler();
+		scheduler.setShardCount(2);
+		scheduler.afterPropertiesSet();
+		Date startTime = new Date(System.currentTimeMillis() + 60000);
+		Future<?> future1 = scheduler.schedule(() -> {}, startTime);
+		Future<?> future2 = scheduler.schedule(() -> {}, startTime);
+		scheduler.destroy();
+		assertThat(future1.isCancelled()).isTrue();
+		assertThat(future2.isCancelled()).isTrue();
+	}
+
+
+	private static class TestTrigger implements Trigger {
+
+		private final int maxRunCount;
+
+		private final AtomicInteger actualRunCount = new AtomicInteger();
+
+		TestTrigger(int maxRunCount) {
+			this.maxRunCount = maxRunCount;
+		}
+
+		@Override
+		public Date nextExecutionTime(TriggerContext triggerContext) {
+			if (this.actualRunCount.incrementAndGet() > this.maxRunCount) {
+				return null;
+			}
+			return new Date();
+		}
+	}
+
+}
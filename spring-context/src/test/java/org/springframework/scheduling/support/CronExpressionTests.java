@@ -0,0 +1,146 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author Philipp Kessler
+ */
+class CronExpressionTests {
+
+	private static final ZoneId UTC = ZoneOffset.UTC;
+
+
+	@Test
+	void nextWithinSameMinute() {
+		CronExpression expression = CronExpression.parse("*/10 * * * * *");
+		ZonedDateTime start = ZonedDateTime.of(2019, 12, 3, 10, 15, 21, 500_000_000, UTC);
+		assertThat(expression.next(start)).isEqualTo(ZonedDateTime.of(2019, 12, 3, 10, 15, 30, 0, UTC));
+	}
+
+	@Test
+	void nextIsStrictlyAfterGivenDateTime() {
+		CronExpression expression = CronExpression.parse("0 0 * * * *");
+		ZonedDateTime start = ZonedDateTime.of(2019, 12, 31, 23, 0, 0, 0, UTC);
+		assertThat(expression.next(start)).isEqualTo(ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, UTC));
+	}
+
+	@Test
+	void nextWithDayOfWeek() {
+		CronExpression expression = CronExpression.parse("0 0 7 ? * MON-FRI");
+		// Saturday
+		ZonedDateTime start = ZonedDateTime.of(2009, 9, 26, 0, 0, 0, 0, UTC);
+		assertThat(expression.next(start)).isEqualTo(ZonedDateTime.of(2009, 9, 28, 7, 0, 0, 0, UTC));
+	}
+
+	@Test
+	void nextWithSundayAsZeroOrSeven() {
+		ZonedDateTime start = ZonedDateTime.of(2019, 12, 3, 0, 0, 0, 0, UTC);
+		ZonedDateTime sunday = ZonedDateTime.of(2019, 12, 8, 0, 0, 0, 0, UTC);
+		assertThat(CronExpression.parse("0 0 0 * * 0").next(start)).isEqualTo(sunday);
+		assertThat(CronExpression.parse("0 0 0 * * 7").next(start)).isEqualTo(sunday);
+		assertThat(CronExpression.parse("0 0 0 * * SUN")).isEqualTo(CronExpression.parse("0 0 0 * * 7"));
+	}
+
+	@Test
+	void nextLeapDay() {
+		CronExpression expression = CronExpression.parse("0 0 0 29 2 *");
+		ZonedDateTime start = ZonedDateTime.of(2097, 3, 1, 0, 0, 0, 0, UTC);
+		assertThat(expression.next(start)).isEqualTo(ZonedDateTime.of(2104, 2, 29, 0, 0, 0, 0, UTC));
+	}
+
+	@Test
+	void nextLeapDayOnSpecificDayOfWeek() {
+		CronExpression expression = CronExpression.parse("0 0 0 29 FEB MON");
+		ZonedDateTime start = ZonedDateTime.of(2019, 1, 1, 0, 0, 0, 0, UTC);
+		assertThat(expression.next(start)).isEqualTo(ZonedDateTime.of(2044, 2, 29, 0, 0, 0, 0, UTC));
+	}
+
+	@Test
+	void nextWithNonExistentDate() {
+		CronExpression expression = CronExpression.parse("0 0 0 31 6 *");
+		ZonedDateTime start = ZonedDateTime.of(2019, 1, 1, 0, 0, 0, 0, UTC);
+		assertThatIllegalArgumentException().isThrownBy(() -> expression.next(start));
+	}
+
+	@Test
+	void nextSkipsDaylightSavingGap() {
+		ZoneId zone = ZoneId.of("Europe/Berlin");
+		CronExpression expression = CronExpression.parse("0 10 2 * * *");
+		ZonedDateTime start = ZonedDateTime.of(2013, 3, 31, 1, 0, 54, 0, zone);
+		assertThat(expression.next(start)).isEqualTo(ZonedDateTime.of(2013, 4, 1, 2, 10, 0, 0, zone));
+	}
+
+	@Test
+	void matches() {
+		CronExpression expression = CronExpression.parse("0 0 9-17 * * MON-FRI");
+		assertThat(expression.matches(LocalDateTime.of(2019, 12, 6, 9, 0))).isTrue();
+		assertThat(expression.matches(LocalDateTime.of(2019, 12, 6, 18, 0))).isFalse();
+		assertThat(expression.matches(LocalDateTime.of(2019, 12, 7, 9, 0))).isFalse();
+	}
+
+	@Test
+	void matchingAgainstSingleDateTime() {
+		CronExpression everySecond = CronExpression.parse("* * * * * *");
+		CronExpression hourly = CronExpression.parse("0 0 * * * *");
+		CronExpression leapDay = CronExpression.parse("0 0 0 29 2 *");
+		CronExpression christmas = CronExpression.parse("0 0 0 25 12 ?");
+		assertThat(CronExpression.matching(Arrays.asList(everySecond, hourly, leapDay, christmas),
+				LocalDateTime.of(2020, 2, 29, 0, 0))).containsExactly(everySecond, hourly, leapDay);
+	}
+
+	@Test
+	void invalidExpressions() {
+		assertThat(CronExpression.isValidExpression(null)).isFalse();
+		assertThat(CronExpression.isValidExpression("")).isFalse();
+		assertThat(CronExpression.isValidExpression("0 0 * * *")).isFalse();
+		assertThat(CronExpression.isValidExpression("77 * * * * *")).isFalse();
+		assertThat(CronExpression.isValidExpression("* * * 28-45 * *")).isFalse();
+		assertThat(CronExpression.isValidExpression("*/0 * * * * *")).isFalse();
+		assertThat(CronExpression.isValidExpression("0 0 0 25 DEC ?")).isTrue();
+	}
+
+	@Test
+	void consistentWithSequenceGenerator() {
+		TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+		String[] patterns = {"*/7 * * * * *", "0 0/30 8-10 * * *", "0 0 9-17 * * MON-FRI", "0 0 0 31 * *"};
+		for (String pattern : patterns) {
+			CronSequenceGenerator generator = new CronSequenceGenerator(pattern, timeZone);
+			CronExpression expression = CronExpression.parse(pattern);
+			Date date = new Date(1575000000123L);
+			ZonedDateTime dateTime = ZonedDateTime.ofInstant(date.toInstant(), timeZone.toZoneId());
+			for (int i = 0; i < 100; i++) {
+				date = generator.next(date);
+				dateTime = expression.next(dateTime);
+				assertThat(Date.from(dateTime.toInstant())).isEqualTo(date);
+			}
+		}
+	}
+
+}
@@ -17,11 +17,14 @@
 package org.springframework.jdbc.core;
 
 import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -31,8 +34,9 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.NotWritablePropertyException;
-import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
@@ -67,6 +71,11 @@ import org.springframework.util.StringUtils;
  * Be aware that if you use the values from the generated bean to update the database the primitive value
  * will have been set to the primitive's default value instead of null.
  *
+ * <p>The column-to-property mapping is resolved once per {@link ResultSet} from its
+ * meta-data and then reused for all of its rows. Column values are retrieved through
+ * typed {@code ResultSet} getters according to the target property type; see
+ * {@link JdbcUtils#getResultSetValue(ResultSet, int, Class)}.
+ *
  * <p>Please note that this class is designed to provide convenience rather than high performance.
  * For best performance, consider using a custom {@link RowMapper} implementation.
  *
@@ -74,6 +83,7 @@ import org.springframework.util.StringUtils;
  * @author Juergen Hoeller
  * @since 2.5
  * @param <T> the result type
+ * @see DataClassRowMapper
  */
 public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 
@@ -102,6 +112,10 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	@Nullable
 	private Set<String> mappedProperties;
 
+	/** Column-to-property mapping for the most recently mapped ResultSet. */
+	@Nullable
+	private volatile MappingPlan mappingPlan;
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper} for bean-style configuration.
@@ -235,6 +249,21 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		}
 	}
 
+	/**
+	 * Remove the specified property from the mapped fields.
+	 * @param propertyName the property name (as used by property descriptors)
+	 * @since 5.2.3
+	 */
+	protected void suppressProperty(String propertyName) {
+		if (this.mappedFields != null) {
+			this.mappedFields.remove(lowerCaseName(propertyName));
+			this.mappedFields.remove(underscoreName(propertyName));
+		}
+		if (this.mappedProperties != null) {
+			this.mappedProperties.remove(propertyName);
+		}
+	}
+
 	/**
 	 * Convert a name in camelCase to an underscored name in lower case.
 	 * Any upper case letters are converted to lower case with a preceding underscore.
@@ -281,57 +310,45 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	@Override
 	public T mapRow(ResultSet rs, int rowNumber) throws SQLException {
-		Assert.state(this.mappedClass != null, "Mapped class was not specified");
-		T mappedObject = BeanUtils.instantiateClass(this.mappedClass);
-		BeanWrapper bw = PropertyAccessorFactory.forBeanPropertyAccess(mappedObject);
+		MappingPlan plan = obtainMappingPlan(rs, rowNumber == 0);
+
+		BeanWrapperImpl bw = new BeanWrapperImpl();
 		initBeanWrapper(bw);
 
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
+		T mappedObject = constructMappedInstance(rs, bw);
+		bw.setBeanInstance(mappedObject);
 		Set<String> populatedProperties = (isCheckFullyPopulated() ? new HashSet<>() : null);
 
-		for (int index = 1; index <= columnCount; index++) {
-			String column = JdbcUtils.lookupColumnName(rsmd, index);
-			String field = lowerCaseName(StringUtils.delete(column, " "));
-			PropertyDescriptor pd = (this.mappedFields != null ? this.mappedFields.get(field) : null);
-			if (pd != null) {
+		for (int i = 0; i < plan.columnIndexes.length; i++) {
+			int index = plan.columnIndexes[i];
+			String column = plan.columnNames[i];
+			PropertyDescriptor pd = plan.propertyDescriptors[i];
+			try {
+				Object value = getColumnValue(rs, index, pd);
 				try {
-					Object value = getColumnValue(rs, index, pd);
-					if (rowNumber == 0 && logger.isDebugEnabled()) {
-						logger.debug("Mapping column '" + column + "' to property '" + pd.getName() +
-								"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
-					}
-					try {
-						bw.setPropertyValue(pd.getName(), value);
-					}
-					catch (TypeMismatchException ex) {
-						if (value == null && this.primitivesDefaultedForNullValue) {
-							if (logger.isDebugEnabled()) {
-								logger.debug("Intercepted TypeMismatchException for row " + rowNumber +
-										" and column '" + column + "' with null value when setting property '" +
-										pd.getName() + "' of type '" +
-										ClassUtils.getQualifiedName(pd.getPropertyType()) +
-										"' on object: " + mappedObject, ex);
-							}
-						}
-						else {
-							throw ex;
+					bw.setPropertyValue(pd.getName(), value);
+				}
+				catch (TypeMismatchException ex) {
+					if (value == null && this.primitivesDefaultedForNullValue) {
+						if (logger.isDebugEnabled()) {
+							logger.debug("Intercepted TypeMismatchException for row " + rowNumber +
+									" and column '" + column + "' with null value when setting property '" +
+									pd.getName() + "' of type '" +
+									ClassUtils.getQualifiedName(pd.getPropertyType()) +
+									"' on object: " + mappedObject, ex);
 						}
 					}
-					if (populatedProperties != null) {
-						populatedProperties.add(pd.getName());
+					else {
+						throw ex;
 					}
 				}
-				catch (NotWritablePropertyException ex) {
-					throw new DataRetrievalFailureException(
-							"Unable to map column '" + column + "' to property '" + pd.getName() + "'", ex);
+				if (populatedProperties != null) {
+					populatedProperties.add(pd.getName());
 				}
 			}
-			else {
-				// No PropertyDescriptor found
-				if (rowNumber == 0 && logger.isDebugEnabled()) {
-					logger.debug("No property found for column '" + column + "' mapped to field '" + field + "'");
-				}
+			catch (NotWritablePropertyException ex) {
+				throw new DataRetrievalFailureException(
+						"Unable to map column '" + column + "' to property '" + pd.getName() + "'", ex);
 			}
 		}
 
@@ -344,6 +361,99 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return mappedObject;
 	}
 
+	/**
+	 * Construct an instance of the mapped class for the current row.
+	 * <p>The default implementation instantiates the mapped class through
+	 * its default or no-arg constructor.
+	 * @param rs the ResultSet to map (pre-initialized for the current row)
+	 * @param tc a TypeConverter with this RowMapper's conversion service
+	 * @return a corresponding instance of the mapped class
+	 * @throws SQLException if an SQLException is encountered
+	 * @since 5.2.3
+	 */
+	protected T constructMappedInstance(ResultSet rs, TypeConverter tc) throws SQLException {
+		Assert.state(this.mappedClass != null, "Mapped class was not specified");
+		return BeanUtils.instantiateClass(this.mappedClass);
+	}
+
+	/**
+	 * Return the column indexes for the given column names in the given
+	 * ResultSet, as resolved once per ResultSet along with the property mapping.
+	 * @see #getConstructorColumnNames()
+	 */
+	int[] getConstructorColumnIndexes(ResultSet rs) throws SQLException {
+		return obtainMappingPlan(rs, false).constructorColumnIndexes;
+	}
+
+	/**
+	 * Return the names of the columns to resolve for constructor arguments,
+	 * or {@code null} if none.
+	 */
+	@Nullable
+	String[] getConstructorColumnNames() {
+		return null;
+	}
+
+	/**
+	 * Return the column-to-property mapping for the given ResultSet, resolving
+	 * it from the ResultSet meta-data for the first row of a ResultSet only.
+	 * The mapping for the most recent ResultSet is kept for its further rows;
+	 * a mapper shared by concurrent queries re-resolves it where necessary.
+	 * @param rs the ResultSet to map
+	 * @param firstRow whether the first row of the ResultSet is being mapped
+	 */
+	private MappingPlan obtainMappingPlan(ResultSet rs, boolean firstRow) throws SQLException {
+		MappingPlan plan = this.mappingPlan;
+		if (firstRow || plan == null || plan.resultSet.get() != rs) {
+			plan = buildMappingPlan(rs, firstRow);
+			this.mappingPlan = plan;
+		}
+		return plan;
+	}
+
+	private MappingPlan buildMappingPlan(ResultSet rs, boolean logMapping) throws SQLException {
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		List<Integer> columnIndexes = new ArrayList<>(columnCount);
+		List<String> columnNames = new ArrayList<>(columnCount);
+		List<PropertyDescriptor> propertyDescriptors = new ArrayList<>(columnCount);
+
+		for (int index = 1; index <= columnCount; index++) {
+			String column = JdbcUtils.lookupColumnName(rsmd, index);
+			String field = lowerCaseName(StringUtils.delete(column, " "));
+			PropertyDescriptor pd = (this.mappedFields != null ? this.mappedFields.get(field) : null);
+			if (pd != null) {
+				if (logMapping && logger.isDebugEnabled()) {
+					logger.debug("Mapping column '" + column + "' to property '" + pd.getName() +
+							"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
+				}
+				columnIndexes.add(index);
+				columnNames.add(column);
+				propertyDescriptors.add(pd);
+			}
+			else {
+				// No PropertyDescriptor found
+				if (logMapping && logger.isDebugEnabled()) {
+					logger.debug("No property found for column '" + column + "' mapped to field '" + field + "'");
+				}
+			}
+		}
+
+		int[] indexArray = new int[columnIndexes.size()];
+		for (int i = 0; i < indexArray.length; i++) {
+			indexArray[i] = columnIndexes.get(i);
+		}
+
+		String[] constructorColumnNames = getConstructorColumnNames();
+		int[] constructorColumnIndexes = new int[constructorColumnNames != null ? constructorColumnNames.length : 0];
+		for (int i = 0; i < constructorColumnIndexes.length; i++) {
+			constructorColumnIndexes[i] = rs.findColumn(constructorColumnNames[i]);
+		}
+
+		return new MappingPlan(rs, indexArray, columnNames.toArray(new String[0]),
+				propertyDescriptors.toArray(new PropertyDescriptor[0]), constructorColumnIndexes);
+	}
+
 	/**
 	 * Initialize the given BeanWrapper to be used for row mapping.
 	 * To be called for each row.
@@ -378,6 +488,25 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return JdbcUtils.getResultSetValue(rs, index, pd.getPropertyType());
 	}
 
+	/**
+	 * Retrieve a JDBC object value for the specified column.
+	 * <p>The default implementation calls
+	 * {@link JdbcUtils#getResultSetValue(java.sql.ResultSet, int, Class)}.
+	 * Subclasses may override this to check specific value types upfront,
+	 * or to post-process values return from {@code getResultSetValue}.
+	 * @param rs is the ResultSet holding the data
+	 * @param index is the column index
+	 * @param paramType the target parameter type
+	 * @return the Object value
+	 * @throws SQLException in case of extraction failure
+	 * @since 5.2.3
+	 * @see org.springframework.jdbc.support.JdbcUtils#getResultSetValue(java.sql.ResultSet, int, Class)
+	 */
+	@Nullable
+	protected Object getColumnValue(ResultSet rs, int index, Class<?> paramType) throws SQLException {
+		return JdbcUtils.getResultSetValue(rs, index, paramType);
+	}
+
 
 	/**
 	 * Static factory method to create a new {@code BeanPropertyRowMapper}
@@ -407,4 +536,33 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Column-to-property mapping for a specific ResultSet, along with the
+	 * column indexes for constructor arguments, holding the ResultSet weakly
+	 * in order to not keep it reachable after its query.
+	 */
+	private static final class MappingPlan {
+
+		final WeakReference<ResultSet> resultSet;
+
+		final int[] columnIndexes;
+
+		final String[] columnNames;
+
+		final PropertyDescriptor[] propertyDescriptors;
+
+		final int[] constructorColumnIndexes;
+
+		MappingPlan(ResultSet resultSet, int[] columnIndexes, String[] columnNames,
+				PropertyDescriptor[] propertyDescriptors, int[] constructorColumnIndexes) {
+
+			this.resultSet = new WeakReference<>(resultSet);
+			this.columnIndexes = columnIndexes;
+			this.columnNames = columnNames;
+			this.propertyDescriptors = propertyDescriptors;
+			this.constructorColumnIndexes = constructorColumnIndexes;
+		}
+	}
+
 }
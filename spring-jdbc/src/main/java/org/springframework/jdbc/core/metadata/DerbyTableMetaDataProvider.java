@@ -53,4 +53,9 @@ public class DerbyTableMetaDataProvider extends GenericTableMetaDataProvider {
 		return (super.isGetGeneratedKeysSupported() || this.supportsGeneratedKeysOverride);
 	}
 
+	@Override
+	public boolean isMultiRowInsertSupported() {
+		return true;
+	}
+
 }
@@ -44,4 +44,9 @@ public class HsqlTableMetaDataProvider extends GenericTableMetaDataProvider {
 		return "select max(identity()) from " + tableName;
 	}
 
+	@Override
+	public boolean isMultiRowInsertSupported() {
+		return true;
+	}
+
 }
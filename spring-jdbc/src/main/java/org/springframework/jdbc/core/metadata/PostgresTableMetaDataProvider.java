@@ -44,4 +44,14 @@ public class PostgresTableMetaDataProvider extends GenericTableMetaDataProvider
 		return "RETURNING " + keyColumnName;
 	}
 
+	@Override
+	public boolean isMultiRowInsertSupported() {
+		return true;
+	}
+
+	@Override
+	public int getMaxParametersPerStatement() {
+		return Short.MAX_VALUE;
+	}
+
 }
@@ -390,4 +390,22 @@ public class TableMetaDataContext {
 		return obtainMetaDataProvider().isGeneratedKeysColumnNameArraySupported();
 	}
 
+	/**
+	 * Does this database support multi-row {@code INSERT ... VALUES} statements?
+	 * @since 5.2.3
+	 * @see TableMetaDataProvider#isMultiRowInsertSupported()
+	 */
+	public boolean isMultiRowInsertSupported() {
+		return obtainMetaDataProvider().isMultiRowInsertSupported();
+	}
+
+	/**
+	 * Get the maximum number of parameter placeholders per statement.
+	 * @since 5.2.3
+	 * @see TableMetaDataProvider#getMaxParametersPerStatement()
+	 */
+	public int getMaxParametersPerStatement() {
+		return obtainMetaDataProvider().getMaxParametersPerStatement();
+	}
+
 }
@@ -123,4 +123,27 @@ public interface TableMetaDataProvider {
 	 */
 	List<TableParameterMetaData> getTableParameterMetaData();
 
+	/**
+	 * Does this database support inserting multiple rows with a single
+	 * {@code INSERT ... VALUES (...), (...)} statement?
+	 * <p>The default implementation returns {@code false}.
+	 * @since 5.2.3
+	 * @see #getMaxParametersPerStatement()
+	 */
+	default boolean isMultiRowInsertSupported() {
+		return false;
+	}
+
+	/**
+	 * Get the maximum number of parameter placeholders to be used in a single
+	 * statement, limiting the number of rows per multi-row insert statement.
+	 * <p>The default implementation returns 2000, a conservative limit which is
+	 * accepted by most databases and drivers.
+	 * @since 5.2.3
+	 * @see #isMultiRowInsertSupported()
+	 */
+	default int getMaxParametersPerStatement() {
+		return 2000;
+	}
+
 }
@@ -17,8 +17,8 @@
 package org.springframework.jdbc.core.namedparam;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -265,55 +265,102 @@ public abstract class NamedParameterUtils {
 	 * @see #parseSqlStatement
 	 */
 	public static String substituteNamedParameters(ParsedSql parsedSql, @Nullable SqlParameterSource paramSource) {
-		String originalSql = parsedSql.getOriginalSql();
 		List<String> paramNames = parsedSql.getParameterNames();
 		if (paramNames.isEmpty()) {
-			return originalSql;
+			return parsedSql.getOriginalSql();
+		}
+		int[] expansionShape = determineExpansionShape(paramNames, paramSource);
+		String substitutedSql = parsedSql.getSubstitutedSql(expansionShape);
+		if (substitutedSql == null) {
+			substitutedSql = buildSubstitutedSql(parsedSql, expansionShape);
+			parsedSql.cacheSubstitutedSql(expansionShape, substitutedSql);
+		}
+		return substitutedSql;
+	}
+
+	/**
+	 * Determine the placeholder expansion for each named parameter occurrence,
+	 * encoded as a flat int array: -1 for a single placeholder, or the number of
+	 * entries for an Iterable value followed by one marker per entry (0 for a
+	 * single placeholder, or the number of expressions plus one for an Object[]
+	 * entry to be rendered as a parenthesized expression list).
+	 * <p>The resulting shape identifies the substituted SQL String for a given
+	 * parsed statement, independent of the actual parameter values.
+	 */
+	private static int[] determineExpansionShape(List<String> paramNames, @Nullable SqlParameterSource paramSource) {
+		int[] shape = new int[paramNames.size()];
+		int pos = 0;
+		for (String paramName : paramNames) {
+			Object value = null;
+			if (paramSource != null && paramSource.hasValue(paramName)) {
+				value = paramSource.getValue(paramName);
+				if (value instanceof SqlParameterValue) {
+					value = ((SqlParameterValue) value).getValue();
+				}
+			}
+			if (value instanceof Iterable) {
+				int countPos = pos;
+				int count = 0;
+				shape = ensureCapacity(shape, pos + 1);
+				pos++;
+				for (Object entryItem : (Iterable<?>) value) {
+					shape = ensureCapacity(shape, pos + 1);
+					shape[pos++] = (entryItem instanceof Object[] ? ((Object[]) entryItem).length + 1 : 0);
+					count++;
+				}
+				shape[countPos] = count;
+			}
+			else {
+				shape = ensureCapacity(shape, pos + 1);
+				shape[pos++] = -1;
+			}
 		}
+		return (pos == shape.length ? shape : Arrays.copyOf(shape, pos));
+	}
+
+	private static int[] ensureCapacity(int[] shape, int minLength) {
+		return (minLength <= shape.length ? shape : Arrays.copyOf(shape, Math.max(minLength, shape.length * 2)));
+	}
+
+	/**
+	 * Build the substituted SQL String for the given expansion shape.
+	 * @see #determineExpansionShape
+	 */
+	private static String buildSubstitutedSql(ParsedSql parsedSql, int[] expansionShape) {
+		String originalSql = parsedSql.getOriginalSql();
+		List<String> paramNames = parsedSql.getParameterNames();
 		StringBuilder actualSql = new StringBuilder(originalSql.length());
 		int lastIndex = 0;
+		int pos = 0;
 		for (int i = 0; i < paramNames.size(); i++) {
-			String paramName = paramNames.get(i);
 			int[] indexes = parsedSql.getParameterIndexes(i);
 			int startIndex = indexes[0];
 			int endIndex = indexes[1];
 			actualSql.append(originalSql, lastIndex, startIndex);
-			if (paramSource != null && paramSource.hasValue(paramName)) {
-				Object value = paramSource.getValue(paramName);
-				if (value instanceof SqlParameterValue) {
-					value = ((SqlParameterValue) value).getValue();
-				}
-				if (value instanceof Iterable) {
-					Iterator<?> entryIter = ((Iterable<?>) value).iterator();
-					int k = 0;
-					while (entryIter.hasNext()) {
-						if (k > 0) {
-							actualSql.append(", ");
-						}
-						k++;
-						Object entryItem = entryIter.next();
-						if (entryItem instanceof Object[]) {
-							Object[] expressionList = (Object[]) entryItem;
-							actualSql.append('(');
-							for (int m = 0; m < expressionList.length; m++) {
-								if (m > 0) {
-									actualSql.append(", ");
-								}
-								actualSql.append('?');
+			int count = expansionShape[pos++];
+			if (count == -1) {
+				actualSql.append('?');
+			}
+			else {
+				for (int k = 0; k < count; k++) {
+					if (k > 0) {
+						actualSql.append(", ");
+					}
+					int entryMarker = expansionShape[pos++];
+					if (entryMarker > 0) {
+						actualSql.append('(');
+						for (int m = 0; m < entryMarker - 1; m++) {
+							if (m > 0) {
+								actualSql.append(", ");
 							}
-							actualSql.append(')');
-						}
-						else {
 							actualSql.append('?');
 						}
+						actualSql.append(')');
+					}
+					else {
+						actualSql.append('?');
 					}
 				}
-				else {
-					actualSql.append('?');
-				}
-			}
-			else {
-				actualSql.append('?');
 			}
 			lastIndex = endIndex;
 		}
@@ -17,7 +17,12 @@
 package org.springframework.jdbc.core.namedparam;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
 
 /**
  * Holds information about a parsed SQL statement.
@@ -28,6 +33,9 @@ import java.util.List;
  */
 public class ParsedSql {
 
+	/** Maximum number of substituted SQL variants (e.g. IN list sizes) per statement. */
+	private static final int SUBSTITUTED_SQL_CACHE_LIMIT = 64;
+
 	private String originalSql;
 
 	private List<String> parameterNames = new ArrayList<>();
@@ -40,6 +48,9 @@ public class ParsedSql {
 
 	private int totalParameterCount;
 
+	/** Substituted SQL Strings, keyed by placeholder expansion shape. */
+	private final Map<ExpansionShape, String> substitutedSqlCache = new ConcurrentHashMap<>(4);
+
 
 	/**
 	 * Create a new instance of the {@link ParsedSql} class.
@@ -134,6 +145,32 @@ public class ParsedSql {
 	}
 
 
+	/**
+	 * Return a previously substituted SQL String for the given expansion shape.
+	 * @param expansionShape the placeholder expansion per parameter occurrence
+	 * @return the substituted SQL String, or {@code null} if not cached yet
+	 * @since 5.2.3
+	 * @see NamedParameterUtils#substituteNamedParameters(ParsedSql, SqlParameterSource)
+	 */
+	@Nullable
+	String getSubstitutedSql(int[] expansionShape) {
+		return this.substitutedSqlCache.get(new ExpansionShape(expansionShape));
+	}
+
+	/**
+	 * Cache the given substituted SQL String for the given expansion shape,
+	 * as long as the per-statement cache limit has not been reached yet.
+	 * @param expansionShape the placeholder expansion per parameter occurrence
+	 * @param substitutedSql the corresponding substituted SQL String
+	 * @since 5.2.3
+	 */
+	void cacheSubstitutedSql(int[] expansionShape, String substitutedSql) {
+		if (this.substitutedSqlCache.size() < SUBSTITUTED_SQL_CACHE_LIMIT) {
+			this.substitutedSqlCache.putIfAbsent(new ExpansionShape(expansionShape), substitutedSql);
+		}
+	}
+
+
 	/**
 	 * Exposes the original SQL String.
 	 */
@@ -142,4 +179,31 @@ public class ParsedSql {
 		return this.originalSql;
 	}
 
+
+	/**
+	 * Cache key for a placeholder expansion shape.
+	 */
+	private static final class ExpansionShape {
+
+		private final int[] shape;
+
+		private final int hashCode;
+
+		ExpansionShape(int[] shape) {
+			this.shape = shape;
+			this.hashCode = Arrays.hashCode(shape);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof ExpansionShape &&
+					Arrays.equals(this.shape, ((ExpansionShape) other).shape)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
 }
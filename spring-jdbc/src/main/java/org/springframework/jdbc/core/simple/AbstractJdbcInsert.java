@@ -88,6 +88,10 @@ public abstract class AbstractJdbcInsert {
 	/** The SQL type information for the insert columns. */
 	private int[] insertTypes = new int[0];
 
+	/** The strategy for executing batch inserts, if any. */
+	@Nullable
+	private BulkInsertStrategy bulkInsertStrategy;
+
 
 	/**
 	 * Constructor to be used when initializing using a {@link DataSource}.
@@ -221,6 +225,27 @@ public abstract class AbstractJdbcInsert {
 		this.tableMetaDataContext.setOverrideIncludeSynonymsDefault(override);
 	}
 
+	/**
+	 * Specify a {@link BulkInsertStrategy} for executing batch inserts,
+	 * for example a {@link MultiRowValuesInsertStrategy}.
+	 * <p>Default is none, executing batches through a JDBC batch of
+	 * single-row insert statements.
+	 * @since 5.2.3
+	 */
+	public void setBulkInsertStrategy(@Nullable BulkInsertStrategy bulkInsertStrategy) {
+		checkIfConfigurationModificationIsAllowed();
+		this.bulkInsertStrategy = bulkInsertStrategy;
+	}
+
+	/**
+	 * Get the {@link BulkInsertStrategy} for executing batch inserts, if any.
+	 * @since 5.2.3
+	 */
+	@Nullable
+	public BulkInsertStrategy getBulkInsertStrategy() {
+		return this.bulkInsertStrategy;
+	}
+
 	/**
 	 * Get the insert string to be used.
 	 */
@@ -569,6 +594,10 @@ public abstract class AbstractJdbcInsert {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing statement " + getInsertString() + " with batch of size: " + batchValues.size());
 		}
+		if (this.bulkInsertStrategy != null) {
+			return this.bulkInsertStrategy.insertBatch(
+					getJdbcTemplate(), this.tableMetaDataContext, getInsertString(), getInsertTypes(), batchValues);
+		}
 		return getJdbcTemplate().batchUpdate(getInsertString(),
 				new BatchPreparedStatementSetter() {
 					@Override
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.metadata.TableMetaDataContext;
+
+/**
+ * Strategy interface for executing a batch of inserts on behalf of
+ * {@link SimpleJdbcInsert#executeBatch}.
+ *
+ * <p>By default, a batch is executed through a JDBC {@code addBatch} /
+ * {@code executeBatch} loop for the compiled single-row insert statement.
+ * Implementations of this interface may choose a more efficient approach
+ * for the target database, for example {@link MultiRowValuesInsertStrategy}.
+ *
+ * @author Philipp Kessler
+ * @since 5.2.3
+ * @see AbstractJdbcInsert#setBulkInsertStrategy
+ */
+@FunctionalInterface
+public interface BulkInsertStrategy {
+
+	/**
+	 * Insert the given rows.
+	 * @param jdbcTemplate the JdbcTemplate to execute statements with
+	 * @param metaDataContext the meta-data context of the insert, providing
+	 * database-specific capabilities
+	 * @param insertString the compiled single-row insert statement
+	 * @param insertTypes the SQL types for the insert columns
+	 * @param batchValues the parameter values for each row, matching the
+	 * placeholders in the insert statement
+	 * @return an array of the number of rows affected for each row
+	 * (or {@link java.sql.Statement#SUCCESS_NO_INFO} if unknown)
+	 * @throws DataAccessException if there is any problem issuing the insert
+	 */
+	int[] insertBatch(JdbcTemplate jdbcTemplate, TableMetaDataContext metaDataContext,
+			String insertString, int[] insertTypes, List<List<Object>> batchValues) throws DataAccessException;
+
+}
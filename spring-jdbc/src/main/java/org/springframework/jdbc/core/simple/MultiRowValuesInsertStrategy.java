@@ -0,0 +1,216 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.metadata.TableMetaDataContext;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link BulkInsertStrategy} which inserts several rows per statement,
+ * using a multi-row {@code INSERT INTO ... VALUES (...), (...)} statement.
+ *
+ * <p>The number of rows per statement is limited by the
+ * {@link #setMaxRowsPerStatement maximum number of rows} as well as by the
+ * maximum number of parameter placeholders per statement, as determined by
+ * the database-specific
+ * {@link org.springframework.jdbc.core.metadata.TableMetaDataProvider#getMaxParametersPerStatement()
+ * TableMetaDataProvider} unless {@link #setMaxParametersPerStatement specified}
+ * explicitly. Full-sized statements are executed as a JDBC batch, followed by
+ * a single statement for any remaining rows.
+ *
+ * <p>Multi-row inserts are only used where the {@code TableMetaDataProvider}
+ * declares support for them, currently for PostgreSQL, HSQLDB and Apache Derby.
+ * For any other database, this strategy falls back to a regular JDBC batch of
+ * single-row inserts.
+ *
+ * @author Philipp Kessler
+ * @since 5.2.3
+ * @see AbstractJdbcInsert#setBulkInsertStrategy
+ */
+public class MultiRowValuesInsertStrategy implements BulkInsertStrategy {
+
+	/** Default maximum number of rows per statement: 1000. */
+	public static final int DEFAULT_MAX_ROWS_PER_STATEMENT = 1000;
+
+	private static final String VALUES_KEYWORD = " VALUES";
+
+	private static final Log logger = LogFactory.getLog(MultiRowValuesInsertStrategy.class);
+
+
+	private int maxRowsPerStatement = DEFAULT_MAX_ROWS_PER_STATEMENT;
+
+	private int maxParametersPerStatement = -1;
+
+
+	/**
+	 * Set the maximum number of rows to insert per statement.
+	 * <p>Default is 1000, which is the limit for a table value constructor
+	 * on SQL Server and a reasonable statement size for other databases.
+	 */
+	public void setMaxRowsPerStatement(int maxRowsPerStatement) {
+		Assert.isTrue(maxRowsPerStatement > 0, "Maximum number of rows per statement must be greater than 0");
+		this.maxRowsPerStatement = maxRowsPerStatement;
+	}
+
+	/**
+	 * Return the maximum number of rows to insert per statement.
+	 */
+	public int getMaxRowsPerStatement() {
+		return this.maxRowsPerStatement;
+	}
+
+	/**
+	 * Set the maximum number of parameter placeholders per statement.
+	 * <p>Default is -1, indicating that the limit of the database-specific
+	 * {@link org.springframework.jdbc.core.metadata.TableMetaDataProvider}
+	 * applies.
+	 */
+	public void setMaxParametersPerStatement(int maxParametersPerStatement) {
+		this.maxParametersPerStatement = maxParametersPerStatement;
+	}
+
+	/**
+	 * Return the maximum number of parameter placeholders per statement,
+	 * or -1 if determined by the database-specific meta-data provider.
+	 */
+	public int getMaxParametersPerStatement() {
+		return this.maxParametersPerStatement;
+	}
+
+
+	@Override
+	public int[] insertBatch(JdbcTemplate jdbcTemplate, TableMetaDataContext metaDataContext,
+			String insertString, int[] insertTypes, List<List<Object>> batchValues) {
+
+		if (batchValues.isEmpty()) {
+			return new int[0];
+		}
+		int valuesIndex = insertString.lastIndexOf(VALUES_KEYWORD);
+		if (!metaDataContext.isMultiRowInsertSupported() || valuesIndex == -1) {
+			return insertSingleRows(jdbcTemplate, insertString, insertTypes, batchValues);
+		}
+
+		String prefix = insertString.substring(0, valuesIndex + VALUES_KEYWORD.length());
+		String rowPlaceholders = insertString.substring(valuesIndex + VALUES_KEYWORD.length());
+		int parametersPerRow = StringUtils.countOccurrencesOf(rowPlaceholders, "?");
+		int maxParameters = (this.maxParametersPerStatement > 0 ?
+				this.maxParametersPerStatement : metaDataContext.getMaxParametersPerStatement());
+		int rowsPerStatement = (parametersPerRow > 0 ?
+				Math.min(this.maxRowsPerStatement, maxParameters / parametersPerRow) : 1);
+		if (rowsPerStatement < 2) {
+			return insertSingleRows(jdbcTemplate, insertString, insertTypes, batchValues);
+		}
+
+		int[] rowsAffected = new int[batchValues.size()];
+		int fullStatementCount = batchValues.size() / rowsPerStatement;
+		if (fullStatementCount > 0) {
+			String sql = createMultiRowInsertString(prefix, rowPlaceholders, rowsPerStatement);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing " + fullStatementCount + " multi-row inserts of " +
+						rowsPerStatement + " rows each");
+			}
+			int[] updateCounts = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					int offset = i * rowsPerStatement;
+					setParameterValues(ps, batchValues.subList(offset, offset + rowsPerStatement), insertTypes);
+				}
+				@Override
+				public int getBatchSize() {
+					return fullStatementCount;
+				}
+			});
+			for (int i = 0; i < fullStatementCount; i++) {
+				int updateCount = (i < updateCounts.length ? updateCounts[i] : Statement.SUCCESS_NO_INFO);
+				int offset = i * rowsPerStatement;
+				Arrays.fill(rowsAffected, offset, offset + rowsPerStatement,
+						(updateCount == rowsPerStatement ? 1 : Statement.SUCCESS_NO_INFO));
+			}
+		}
+
+		int remainderOffset = fullStatementCount * rowsPerStatement;
+		int remainder = batchValues.size() - remainderOffset;
+		if (remainder > 0) {
+			List<List<Object>> remainingRows = batchValues.subList(remainderOffset, batchValues.size());
+			String sql = (remainder > 1 ? createMultiRowInsertString(prefix, rowPlaceholders, remainder) : insertString);
+			int updateCount = jdbcTemplate.update(sql, ps -> setParameterValues(ps, remainingRows, insertTypes));
+			Arrays.fill(rowsAffected, remainderOffset, batchValues.size(),
+					(updateCount == remainder ? 1 : Statement.SUCCESS_NO_INFO));
+		}
+		return rowsAffected;
+	}
+
+	/**
+	 * Build a multi-row insert statement for the given number of rows.
+	 * @param prefix the insert statement up to and including the VALUES keyword
+	 * @param rowPlaceholders the parenthesized placeholders for a single row
+	 * @param rowCount the number of rows
+	 */
+	protected String createMultiRowInsertString(String prefix, String rowPlaceholders, int rowCount) {
+		StringBuilder sql = new StringBuilder(prefix.length() + (rowPlaceholders.length() + 2) * rowCount);
+		sql.append(prefix);
+		for (int i = 0; i < rowCount; i++) {
+			sql.append(i > 0 ? ", " : "").append(rowPlaceholders);
+		}
+		return sql.toString();
+	}
+
+	private int[] insertSingleRows(JdbcTemplate jdbcTemplate, String insertString, int[] insertTypes,
+			List<List<Object>> batchValues) {
+
+		return jdbcTemplate.batchUpdate(insertString, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				setParameterValues(ps, batchValues.subList(i, i + 1), insertTypes);
+			}
+			@Override
+			public int getBatchSize() {
+				return batchValues.size();
+			}
+		});
+	}
+
+	private static void setParameterValues(PreparedStatement ps, List<List<Object>> rows, int[] columnTypes)
+			throws SQLException {
+
+		int paramIndex = 0;
+		for (List<Object> values : rows) {
+			int colIndex = 0;
+			for (Object value : values) {
+				paramIndex++;
+				int colType = (colIndex < columnTypes.length ? columnTypes[colIndex] : SqlTypeValue.TYPE_UNKNOWN);
+				StatementCreatorUtils.setParameterValue(ps, paramIndex, colType, value);
+				colIndex++;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.support;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Helper for executing large JDBC batch updates in chunks, with several
+ * chunks running concurrently on a given {@link TaskExecutor}.
+ *
+ * <p>The batch arguments are split into chunks of the given batch size while
+ * iterating, with each chunk executed through
+ * {@link JdbcOperations#batchUpdate(String, BatchPreparedStatementSetter)}
+ * on a worker thread. Since worker threads do not participate in a transaction
+ * of the calling thread, each chunk runs on its own pooled connection: either
+ * in auto-commit mode or, if {@link #setTransactionOperations TransactionOperations}
+ * have been specified, within a transaction of its own.
+ *
+ * <p>The number of chunks in flight is bounded by the
+ * {@link #setConcurrency concurrency} setting, so only a limited number of
+ * batch arguments is held in memory at any point: the calling thread binds
+ * the next chunk while previously submitted chunks are being sent to the
+ * database. Progress is reported through a {@link ChunkCallback} on the
+ * calling thread, either in chunk order or in completion order.
+ *
+ * <p>On failure of a chunk, no further chunks are submitted, and the first
+ * exception is rethrown once all chunks in flight have completed. Note that
+ * chunks which completed before that point have already been committed.
+ *
+ * @author Philipp Kessler
+ * @since 5.2.3
+ * @see JdbcOperations#batchUpdate(String, java.util.Collection, int, ParameterizedPreparedStatementSetter)
+ */
+public class ParallelBatchUpdater {
+
+	private static final Log logger = LogFactory.getLog(ParallelBatchUpdater.class);
+
+	private final JdbcOperations jdbcOperations;
+
+	private final TaskExecutor taskExecutor;
+
+	@Nullable
+	private TransactionOperations transactionOperations;
+
+	private int concurrency = 4;
+
+	private boolean ordered = true;
+
+
+	/**
+	 * Create a new ParallelBatchUpdater for the given JdbcOperations,
+	 * executing chunks on the given TaskExecutor.
+	 * @param jdbcOperations the JdbcOperations to execute each chunk with
+	 * @param taskExecutor the TaskExecutor to run chunks on (typically backed
+	 * by a thread pool at least as large as the configured concurrency)
+	 */
+	public ParallelBatchUpdater(JdbcOperations jdbcOperations, TaskExecutor taskExecutor) {
+		Assert.notNull(jdbcOperations, "JdbcOperations must not be null");
+		Assert.notNull(taskExecutor, "TaskExecutor must not be null");
+		this.jdbcOperations = jdbcOperations;
+		this.taskExecutor = taskExecutor;
+	}
+
+
+	/**
+	 * Specify the TransactionOperations to execute each chunk within,
+	 * for example a {@code TransactionTemplate} with a
+	 * {@code DataSourceTransactionManager}.
+	 * <p>Default is none, executing each chunk on a connection in its
+	 * default (typically auto-commit) mode.
+	 */
+	public void setTransactionOperations(@Nullable TransactionOperations transactionOperations) {
+		this.transactionOperations = transactionOperations;
+	}
+
+	/**
+	 * Set the maximum number of chunks to execute concurrently,
+	 * i.e. the number of connections in use at the same time.
+	 * <p>Default is 4.
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than 0");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Return the maximum number of chunks to execute concurrently.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * Specify whether the {@link ChunkCallback} is to be invoked in chunk
+	 * order ({@code true}) or as soon as a chunk completes ({@code false}).
+	 * <p>Default is {@code true}. Note that chunks are executed concurrently
+	 * either way; this setting only affects the order of notifications.
+	 */
+	public void setOrdered(boolean ordered) {
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Return whether the {@link ChunkCallback} is invoked in chunk order.
+	 */
+	public boolean isOrdered() {
+		return this.ordered;
+	}
+
+
+	/**
+	 * Execute the given SQL statement for all of the given batch arguments,
+	 * in chunks of the given batch size.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the batch arguments (iterated only once)
+	 * @param batchSize the number of arguments per chunk
+	 * @param pss the setter for each argument's parameter values
+	 * @return an array of arrays containing the number of rows affected
+	 * by each update in each chunk, in chunk order
+	 * @throws DataAccessException if there is any problem issuing an update
+	 */
+	public <T> int[][] batchUpdate(String sql, Iterable<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException {
+
+		return batchUpdate(sql, batchArgs, batchSize, pss, null);
+	}
+
+	/**
+	 * Execute the given SQL statement for all of the given batch arguments,
+	 * in chunks of the given batch size.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the batch arguments (iterated only once)
+	 * @param batchSize the number of arguments per chunk
+	 * @param pss the setter for each argument's parameter values
+	 * @param callback a callback to be notified of each completed chunk
+	 * on the calling thread (may be {@code null})
+	 * @return an array of arrays containing the number of rows affected
+	 * by each update in each chunk, in chunk order
+	 * @throws DataAccessException if there is any problem issuing an update
+	 */
+	public <T> int[][] batchUpdate(String sql, Iterable<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss, @Nullable ChunkCallback callback)
+			throws DataAccessException {
+
+		Assert.notNull(sql, "SQL must not be null");
+		Assert.notNull(batchArgs, "Batch arguments must not be null");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		Assert.notNull(pss, "ParameterizedPreparedStatementSetter must not be null");
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing SQL batch update [" + sql + "] with a batch size of " + batchSize +
+					" on up to " + this.concurrency + " concurrent connections");
+		}
+
+		Iterator<T> argIterator = batchArgs.iterator();
+		BlockingQueue<ChunkResult> completed = new LinkedBlockingQueue<>();
+		List<int[]> results = new ArrayList<>();
+		int nextNotification = 0;
+		int inFlight = 0;
+		Throwable failure = null;
+
+		while (true) {
+			while (failure == null && inFlight < this.concurrency && argIterator.hasNext()) {
+				List<T> chunk = new ArrayList<>(batchSize);
+				while (chunk.size() < batchSize && argIterator.hasNext()) {
+					chunk.add(argIterator.next());
+				}
+				int chunkIndex = results.size();
+				results.add(null);
+				try {
+					this.taskExecutor.execute(() -> completed.add(executeChunk(chunkIndex, sql, chunk, pss)));
+					inFlight++;
+				}
+				catch (RuntimeException ex) {
+					failure = ex;
+				}
+			}
+			if (inFlight == 0) {
+				break;
+			}
+
+			ChunkResult result;
+			try {
+				result = completed.take();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(
+						"Interrupted while waiting for " + inFlight + " batch chunks to complete", ex);
+			}
+			inFlight--;
+
+			if (result.failure != null) {
+				if (failure == null) {
+					failure = result.failure;
+				}
+				else if (failure != result.failure) {
+					failure.addSuppressed(result.failure);
+				}
+				continue;
+			}
+			results.set(result.chunkIndex, result.rowsAffected);
+			if (callback != null && failure == null) {
+				if (this.ordered) {
+					while (nextNotification < results.size() && results.get(nextNotification) != null) {
+						callback.chunkCompleted(nextNotification, results.get(nextNotification));
+						nextNotification++;
+					}
+				}
+				else {
+					callback.chunkCompleted(result.chunkIndex, result.rowsAffected);
+				}
+			}
+		}
+
+		if (failure != null) {
+			ReflectionUtils.rethrowRuntimeException(failure);
+		}
+		return results.toArray(new int[0][]);
+	}
+
+	private <T> ChunkResult executeChunk(int chunkIndex, String sql, List<T> chunk,
+			ParameterizedPreparedStatementSetter<T> pss) {
+
+		try {
+			BatchPreparedStatementSetter setter = new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					pss.setValues(ps, chunk.get(i));
+				}
+				@Override
+				public int getBatchSize() {
+					return chunk.size();
+				}
+			};
+			int[] rowsAffected;
+			if (this.transactionOperations != null) {
+				rowsAffected = this.transactionOperations.execute(status -> this.jdbcOperations.batchUpdate(sql, setter));
+			}
+			else {
+				rowsAffected = this.jdbcOperations.batchUpdate(sql, setter);
+			}
+			Assert.state(rowsAffected != null, "No result array");
+			return new ChunkResult(chunkIndex, rowsAffected, null);
+		}
+		catch (Throwable ex) {
+			return new ChunkResult(chunkIndex, null, ex);
+		}
+	}
+
+
+	/**
+	 * Callback interface for notifications about completed chunks.
+	 * Invoked on the thread which called
+	 * {@link ParallelBatchUpdater#batchUpdate}.
+	 */
+	@FunctionalInterface
+	public interface ChunkCallback {
+
+		/**
+		 * Called when a chunk has been executed successfully.
+		 * @param chunkIndex the 0-based index of the chunk
+		 * @param rowsAffected the number of rows affected by each update in the chunk
+		 */
+		void chunkCompleted(int chunkIndex, int[] rowsAffected);
+	}
+
+
+	private static class ChunkResult {
+
+		final int chunkIndex;
+
+		@Nullable
+		final int[] rowsAffected;
+
+		@Nullable
+		final Throwable failure;
+
+		ChunkResult(int chunkIndex, @Nullable int[] rowsAffected, @Nullable Throwable failure) {
+			this.chunkIndex = chunkIndex;
+			this.rowsAffected = rowsAffected;
+			this.failure = failure;
+		}
+	}
+
+}
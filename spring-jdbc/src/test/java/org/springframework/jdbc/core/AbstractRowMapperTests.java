@@ -26,6 +26,7 @@ import java.sql.Timestamp;
 import java.util.Date;
 
 import org.springframework.jdbc.core.test.ConcretePerson;
+import org.springframework.jdbc.core.test.ConstructorPerson;
 import org.springframework.jdbc.core.test.DatePerson;
 import org.springframework.jdbc.core.test.Person;
 import org.springframework.jdbc.core.test.SpacePerson;
@@ -62,6 +63,13 @@ public abstract class AbstractRowMapperTests {
 		assertThat(bean.getBalance()).isEqualTo(new BigDecimal("1234.56"));
 	}
 
+	protected void verifyPerson(ConstructorPerson bean) throws Exception {
+		assertThat(bean.name()).isEqualTo("Bubba");
+		assertThat(bean.age()).isEqualTo(22L);
+		assertThat(bean.birth_date()).usingComparator(Date::compareTo).isEqualTo(new java.util.Date(1221222L));
+		assertThat(bean.balance()).isEqualTo(new BigDecimal("1234.56"));
+	}
+
 	protected void verifyPerson(SpacePerson bean) {
 		assertThat(bean.getLastName()).isEqualTo("Bubba");
 		assertThat(bean.getAge()).isEqualTo(22L);
@@ -115,6 +123,10 @@ public abstract class AbstractRowMapperTests {
 			given(resultSet.getDate(3)).willReturn(new java.sql.Date(1221222L));
 			given(resultSet.getBigDecimal(4)).willReturn(new BigDecimal("1234.56"));
 			given(resultSet.wasNull()).willReturn(type == MockType.TWO);
+			given(resultSet.findColumn("name")).willReturn(1);
+			given(resultSet.findColumn("age")).willReturn(2);
+			given(resultSet.findColumn("birth_date")).willReturn(3);
+			given(resultSet.findColumn("balance")).willReturn(4);
 
 			given(resultSetMetaData.getColumnCount()).willReturn(4);
 			given(resultSetMetaData.getColumnLabel(1)).willReturn(
@@ -133,6 +145,10 @@ public abstract class AbstractRowMapperTests {
 			return jdbcTemplate;
 		}
 
+		public ResultSet getResultSet() {
+			return resultSet;
+		}
+
 		public void verifyClosed() throws Exception {
 			verify(resultSet).close();
 			verify(statement).close();
@@ -16,6 +16,7 @@
 
 package org.springframework.jdbc.core;
 
+import java.sql.ResultSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,8 @@ import org.springframework.jdbc.core.test.SpacePerson;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Thomas Risberg
@@ -63,6 +66,22 @@ public class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 		mock.verifyClosed();
 	}
 
+	@Test
+	public void testMappingResolvedOncePerResultSet() throws Exception {
+		ResultSet rs1 = new Mock().getResultSet();
+		ResultSet rs2 = new Mock().getResultSet();
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
+
+		verifyPerson(mapper.mapRow(rs1, 0));
+		verifyPerson(mapper.mapRow(rs1, 1));
+		verifyPerson(mapper.mapRow(rs1, 2));
+		verifyPerson(mapper.mapRow(rs2, 0));
+		verifyPerson(mapper.mapRow(rs2, 1));
+
+		verify(rs1, times(1)).getMetaData();
+		verify(rs2, times(1)).getMetaData();
+	}
+
 	@Test
 	public void testMappingWithInheritance() throws Exception {
 		Mock mock = new Mock();
@@ -23,9 +23,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -33,12 +36,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.SQLWarningException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -81,6 +87,8 @@ public class JdbcTemplateQueryTests {
 		given(this.connection.prepareStatement(anyString())).willReturn(this.preparedStatement);
 		given(this.preparedStatement.executeQuery()).willReturn(this.resultSet);
 		given(this.statement.executeQuery(anyString())).willReturn(this.resultSet);
+		given(this.statement.getConnection()).willReturn(this.connection);
+		given(this.preparedStatement.getConnection()).willReturn(this.connection);
 	}
 
 
@@ -391,4 +399,61 @@ public class JdbcTemplateQueryTests {
 		verify(this.preparedStatement).close();
 	}
 
+	@Test
+	public void testQueryForStream() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID < 3";
+		given(this.resultSet.next()).willReturn(true, true, false);
+		given(this.resultSet.getInt(1)).willReturn(11, 12);
+		try (Stream<Integer> stream = this.template.queryForStream(sql, (rs, rowNum) -> rs.getInt(1))) {
+			verify(this.resultSet, never()).next();
+			assertThat(stream.collect(Collectors.toList())).containsExactly(11, 12);
+			verify(this.resultSet, never()).close();
+			verify(this.statement, never()).close();
+		}
+		verify(this.resultSet).close();
+		verify(this.statement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void testQueryForStreamWithArgsAndFetchSize() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID < ?";
+		this.template.setFetchSize(10);
+		given(this.resultSet.next()).willReturn(true, true, false);
+		given(this.resultSet.getInt(1)).willReturn(11, 12);
+		try (Stream<Integer> stream = this.template.queryForStream(sql, 500, (rs, rowNum) -> rs.getInt(1), 3)) {
+			assertThat(stream.findFirst()).hasValue(11);
+		}
+		verify(this.preparedStatement).setFetchSize(10);
+		verify(this.preparedStatement).setFetchSize(500);
+		verify(this.preparedStatement).setObject(1, 3);
+		verify(this.resultSet).close();
+		verify(this.preparedStatement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void testQueryForStreamReleasesResourcesOnWarning() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID < ?";
+		this.template.setIgnoreWarnings(false);
+		given(this.preparedStatement.getWarnings()).willReturn(new SQLWarning("warning"));
+		assertThatExceptionOfType(SQLWarningException.class).isThrownBy(() ->
+				this.template.queryForStream(sql, (rs, rowNum) -> rs.getInt(1), 3));
+		verify(this.resultSet).close();
+		verify(this.preparedStatement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void testQueryForStreamReleasesResourcesOnSetterFailure() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID < ?";
+		assertThatIllegalStateException().isThrownBy(() ->
+				this.template.queryForStream(sql, ps -> {
+					throw new IllegalStateException("setter failure");
+				}, (rs, rowNum) -> rs.getInt(1)));
+		verify(this.preparedStatement, never()).executeQuery();
+		verify(this.preparedStatement).close();
+		verify(this.connection).close();
+	}
+
 }
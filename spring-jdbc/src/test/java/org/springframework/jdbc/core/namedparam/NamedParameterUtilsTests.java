@@ -16,6 +16,7 @@
 
 package org.springframework.jdbc.core.namedparam;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -127,6 +128,27 @@ public class NamedParameterUtilsTests {
 		assertThat(newSql).isEqualTo(expectedSql);
 	}
 
+	@Test
+	public void substituteNamedParametersReusesSqlForSameExpansionShape() {
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement("select * from foo where id in (:ids) and a = :a");
+		MapSqlParameterSource paramSource = new MapSqlParameterSource("a", "x");
+
+		paramSource.addValue("ids", Arrays.asList(1, 2, 3));
+		String sql1 = NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource);
+		assertThat(sql1).isEqualTo("select * from foo where id in (?, ?, ?) and a = ?");
+
+		paramSource.addValue("ids", Arrays.asList(4, 5, 6));
+		assertThat(NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource)).isSameAs(sql1);
+
+		paramSource.addValue("ids", Arrays.asList(7, 8));
+		assertThat(NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource))
+				.isEqualTo("select * from foo where id in (?, ?) and a = ?");
+
+		paramSource.addValue("ids", Collections.singletonList(new Object[] {1, "a"}));
+		assertThat(NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource))
+				.isEqualTo("select * from foo where id in ((?, ?)) and a = ?");
+	}
+
 	@Test
 	public void testParseSqlStatementWithStringContainingQuotes() {
 		String expectedSql = "select 'first name' from artists where id = ? and quote = 'exsqueeze me?'";
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.metadata.TableMetaDataContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Philipp Kessler
+ */
+public class MultiRowValuesInsertStrategyTests {
+
+	private static final String INSERT = "INSERT INTO person (id, name) VALUES(?, ?)";
+
+	private static final int[] TYPES = new int[] {Types.INTEGER, Types.VARCHAR};
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final TableMetaDataContext metaDataContext = mock(TableMetaDataContext.class);
+
+	private final MultiRowValuesInsertStrategy strategy = new MultiRowValuesInsertStrategy();
+
+
+	@Test
+	public void insertWithParameterLimit() throws Exception {
+		given(this.metaDataContext.isMultiRowInsertSupported()).willReturn(true);
+		given(this.metaDataContext.getMaxParametersPerStatement()).willReturn(4);
+		given(this.jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+				.willReturn(new int[] {2, 2});
+		given(this.jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).willReturn(1);
+
+		int[] result = this.strategy.insertBatch(this.jdbcTemplate, this.metaDataContext, INSERT, TYPES, rows(5));
+
+		assertThat(result).containsExactly(1, 1, 1, 1, 1);
+		ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+		verify(this.jdbcTemplate).batchUpdate(
+				eq("INSERT INTO person (id, name) VALUES(?, ?), (?, ?)"), setter.capture());
+		verify(this.jdbcTemplate).update(eq(INSERT), any(PreparedStatementSetter.class));
+
+		assertThat(setter.getValue().getBatchSize()).isEqualTo(2);
+		PreparedStatement ps = mock(PreparedStatement.class);
+		setter.getValue().setValues(ps, 1);
+		verify(ps).setObject(1, 2, Types.INTEGER);
+		verify(ps).setString(2, "name2");
+		verify(ps).setObject(3, 3, Types.INTEGER);
+		verify(ps).setString(4, "name3");
+	}
+
+	@Test
+	public void insertWithRowLimit() {
+		given(this.metaDataContext.isMultiRowInsertSupported()).willReturn(true);
+		given(this.metaDataContext.getMaxParametersPerStatement()).willReturn(2000);
+		given(this.jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).willReturn(3);
+		this.strategy.setMaxRowsPerStatement(10);
+
+		int[] result = this.strategy.insertBatch(this.jdbcTemplate, this.metaDataContext, INSERT, TYPES, rows(3));
+
+		assertThat(result).containsExactly(1, 1, 1);
+		verify(this.jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+		verify(this.jdbcTemplate).update(
+				eq("INSERT INTO person (id, name) VALUES(?, ?), (?, ?), (?, ?)"), any(PreparedStatementSetter.class));
+	}
+
+	@Test
+	public void insertWithUnknownUpdateCount() {
+		given(this.metaDataContext.isMultiRowInsertSupported()).willReturn(true);
+		given(this.metaDataContext.getMaxParametersPerStatement()).willReturn(2000);
+		given(this.jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).willReturn(0);
+
+		int[] result = this.strategy.insertBatch(this.jdbcTemplate, this.metaDataContext, INSERT, TYPES, rows(2));
+
+		assertThat(result).containsExactly(Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO);
+	}
+
+	@Test
+	public void fallbackToSingleRowBatchIfNotSupported() {
+		given(this.metaDataContext.isMultiRowInsertSupported()).willReturn(false);
+		given(this.jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+				.willReturn(new int[] {1, 1, 1});
+
+		int[] result = this.strategy.insertBatch(this.jdbcTemplate, this.metaDataContext, INSERT, TYPES, rows(3));
+
+		assertThat(result).containsExactly(1, 1, 1);
+		verify(this.jdbcTemplate).batchUpdate(eq(INSERT), any(BatchPreparedStatementSetter.class));
+		verify(this.jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+
+	private static List<List<Object>> rows(int count) {
+		List<List<Object>> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			rows.add(Arrays.asList(i, "name" + i));
+		}
+		return rows;
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.support;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Philipp Kessler
+ */
+public class ParallelBatchUpdaterTests {
+
+	private static final String SQL = "insert into foo (id) values (?)";
+
+	private final JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+
+	private final List<Integer> boundIds = Collections.synchronizedList(new ArrayList<>());
+
+	private final ParallelBatchUpdater updater =
+			new ParallelBatchUpdater(this.jdbcOperations, new SimpleAsyncTaskExecutor());
+
+
+	@BeforeEach
+	public void setup() {
+		PreparedStatement ps = mock(PreparedStatement.class);
+		given(this.jdbcOperations.batchUpdate(eq(SQL), any(BatchPreparedStatementSetter.class))).willAnswer(invocation -> {
+			BatchPreparedStatementSetter setter = invocation.getArgument(1);
+			int[] rowsAffected = new int[setter.getBatchSize()];
+			for (int i = 0; i < rowsAffected.length; i++) {
+				setter.setValues(ps, i);
+				rowsAffected[i] = 1;
+			}
+			return rowsAffected;
+		});
+	}
+
+
+	@Test
+	public void batchUpdateInChunks() {
+		List<Integer> ids = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+		List<Integer> notifiedChunks = new ArrayList<>();
+
+		int[][] result = this.updater.batchUpdate(SQL, ids, 10,
+				(ps, id) -> this.boundIds.add(id),
+				(chunkIndex, rowsAffected) -> notifiedChunks.add(chunkIndex));
+
+		assertThat(result).hasNumberOfRows(3);
+		assertThat(result[0]).hasSize(10);
+		assertThat(result[1]).hasSize(10);
+		assertThat(result[2]).hasSize(5);
+		assertThat(this.boundIds).containsExactlyInAnyOrderElementsOf(ids);
+		assertThat(notifiedChunks).containsExactly(0, 1, 2);
+		verify(this.jdbcOperations, times(3)).batchUpdate(eq(SQL), any(BatchPreparedStatementSetter.class));
+	}
+
+	@Test
+	public void batchUpdateWithEmptyArguments() {
+		int[][] result = this.updater.batchUpdate(SQL, Collections.<Integer>emptyList(), 10,
+				(ps, id) -> this.boundIds.add(id));
+
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchUpdateWithTransactionPerChunk() {
+		TransactionOperations transactionOperations = mock(TransactionOperations.class);
+		given(transactionOperations.execute(any())).willAnswer(invocation ->
+				((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+		this.updater.setTransactionOperations(transactionOperations);
+		this.updater.setConcurrency(2);
+
+		int[][] result = this.updater.batchUpdate(SQL, Arrays.asList(1, 2, 3, 4, 5), 2,
+				(ps, id) -> this.boundIds.add(id));
+
+		assertThat(result).hasNumberOfRows(3);
+		assertThat(this.boundIds).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+		verify(transactionOperations, times(3)).execute(any());
+	}
+
+	@Test
+	public void batchUpdateWithFailingChunk() {
+		this.updater.setConcurrency(1);
+		List<Integer> notifiedChunks = new ArrayList<>();
+
+		assertThatExceptionOfType(DataIntegrityViolationException.class).isThrownBy(() ->
+				this.updater.batchUpdate(SQL, Arrays.asList(1, 2, 3, 4, 5, 6), 2,
+						(ps, id) -> {
+							if (id == 3) {
+								throw new DataIntegrityViolationException("duplicate key");
+							}
+							this.boundIds.add(id);
+						},
+						(chunkIndex, rowsAffected) -> notifiedChunks.add(chunkIndex)));
+
+		assertThat(notifiedChunks).containsExactly(0);
+		assertThat(this.boundIds).containsExactly(1, 2);
+	}
+
+}
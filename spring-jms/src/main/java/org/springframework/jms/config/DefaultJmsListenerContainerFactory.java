@@ -57,6 +57,15 @@ public class DefaultJmsListenerContainerFactory
 	@Nullable
 	private Long receiveTimeout;
 
+	@Nullable
+	private Integer batchSize;
+
+	@Nullable
+	private Long batchReceiveTimeout;
+
+	@Nullable
+	private Long consumerLagThreshold;
+
 	@Nullable
 	private Long recoveryInterval;
 
@@ -113,6 +122,30 @@ public class DefaultJmsListenerContainerFactory
 		this.receiveTimeout = receiveTimeout;
 	}
 
+	/**
+	 * @since 5.2.3
+	 * @see DefaultMessageListenerContainer#setBatchSize
+	 */
+	public void setBatchSize(Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @since 5.2.3
+	 * @see DefaultMessageListenerContainer#setBatchReceiveTimeout
+	 */
+	public void setBatchReceiveTimeout(Long batchReceiveTimeout) {
+		this.batchReceiveTimeout = batchReceiveTimeout;
+	}
+
+	/**
+	 * @since 5.2.3
+	 * @see DefaultMessageListenerContainer#setConsumerLagThreshold
+	 */
+	public void setConsumerLagThreshold(Long consumerLagThreshold) {
+		this.consumerLagThreshold = consumerLagThreshold;
+	}
+
 	/**
 	 * @see DefaultMessageListenerContainer#setRecoveryInterval
 	 */
@@ -158,6 +191,15 @@ public class DefaultJmsListenerContainerFactory
 		if (this.receiveTimeout != null) {
 			container.setReceiveTimeout(this.receiveTimeout);
 		}
+		if (this.batchSize != null) {
+			container.setBatchSize(this.batchSize);
+		}
+		if (this.batchReceiveTimeout != null) {
+			container.setBatchReceiveTimeout(this.batchReceiveTimeout);
+		}
+		if (this.consumerLagThreshold != null) {
+			container.setConsumerLagThreshold(this.consumerLagThreshold);
+		}
 
 		if (this.backOff != null) {
 			container.setBackOff(this.backOff);
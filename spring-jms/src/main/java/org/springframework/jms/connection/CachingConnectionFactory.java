@@ -27,7 +27,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
@@ -56,7 +58,11 @@ import org.springframework.util.ObjectUtils;
  * <p>By default, only one single Session will be cached, with further requested
  * Sessions being created and disposed on demand. Consider raising the
  * {@link #setSessionCacheSize "sessionCacheSize" value} in case of a
- * high-concurrency environment.
+ * high-concurrency environment. Cached Sessions are kept in a non-blocking
+ * pool per acknowledgement mode and reused in LIFO order, with the most
+ * recently returned Session handed out first; Sessions which remained
+ * unused for longer than the {@link #setSessionIdleTimeout idle timeout}
+ * get closed.
  *
  * <p>When using the JMS 1.0.2 API, this ConnectionFactory will switch
  * into queue/topic mode according to the JMS API methods used at runtime:
@@ -92,9 +98,13 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 
 	private boolean cacheConsumers = true;
 
+	private long sessionIdleTimeout = 0;
+
 	private volatile boolean active = true;
 
-	private final ConcurrentMap<Integer, LinkedList<Session>> cachedSessions = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Integer, SessionPool> cachedSessions = new ConcurrentHashMap<>();
+
+	private final AtomicInteger openSessionCount = new AtomicInteger();
 
 
 	/**
@@ -177,6 +187,53 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 		return this.cacheConsumers;
 	}
 
+	/**
+	 * Specify the time in milliseconds after which a cached Session which
+	 * has not been used in the meantime gets physically closed.
+	 * <p>Default is 0, keeping cached Sessions open until the shared
+	 * Connection gets reset. Idle Sessions are checked for whenever a
+	 * Session is returned to the cache.
+	 * @since 5.2.3
+	 * @see #setSessionCacheSize
+	 */
+	public void setSessionIdleTimeout(long sessionIdleTimeout) {
+		Assert.isTrue(sessionIdleTimeout >= 0, "Session idle timeout must not be negative");
+		this.sessionIdleTimeout = sessionIdleTimeout;
+	}
+
+	/**
+	 * Return the time in milliseconds after which an unused cached Session
+	 * gets physically closed.
+	 * @since 5.2.3
+	 */
+	public long getSessionIdleTimeout() {
+		return this.sessionIdleTimeout;
+	}
+
+	/**
+	 * Return the number of idle Sessions currently held in the cache,
+	 * across all acknowledgement modes.
+	 * @since 5.2.3
+	 * @see #getActiveSessionCount()
+	 */
+	public int getIdleSessionCount() {
+		int count = 0;
+		for (SessionPool pool : this.cachedSessions.values()) {
+			count += pool.getIdleCount();
+		}
+		return count;
+	}
+
+	/**
+	 * Return the number of cached Sessions currently in use,
+	 * i.e. obtained from this factory but not closed yet.
+	 * @since 5.2.3
+	 * @see #getIdleSessionCount()
+	 */
+	public int getActiveSessionCount() {
+		return Math.max(this.openSessionCount.get() - getIdleSessionCount(), 0);
+	}
+
 
 	/**
 	 * Resets the Session cache as well.
@@ -186,15 +243,14 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 		this.active = false;
 
 		synchronized (this.cachedSessions) {
-			for (LinkedList<Session> sessionList : this.cachedSessions.values()) {
-				synchronized (sessionList) {
-					for (Session session : sessionList) {
-						try {
-							session.close();
-						}
-						catch (Throwable ex) {
-							logger.trace("Could not close cached JMS Session", ex);
-						}
+			for (SessionPool pool : this.cachedSessions.values()) {
+				Session session;
+				while ((session = pool.poll()) != null) {
+					try {
+						session.close();
+					}
+					catch (Throwable ex) {
+						logger.trace("Could not close cached JMS Session", ex);
 					}
 				}
 			}
@@ -216,13 +272,8 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 			return null;
 		}
 
-		LinkedList<Session> sessionList = this.cachedSessions.computeIfAbsent(mode, k -> new LinkedList<>());
-		Session session = null;
-		synchronized (sessionList) {
-			if (!sessionList.isEmpty()) {
-				session = sessionList.removeFirst();
-			}
-		}
+		SessionPool pool = this.cachedSessions.computeIfAbsent(mode, k -> new SessionPool());
+		Session session = pool.poll();
 		if (session != null) {
 			if (logger.isTraceEnabled()) {
 				logger.trace("Found cached JMS Session for mode " + mode + ": " +
@@ -234,7 +285,7 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 			if (logger.isDebugEnabled()) {
 				logger.debug("Registering cached JMS Session for mode " + mode + ": " + targetSession);
 			}
-			session = getCachedSessionProxy(targetSession, sessionList);
+			session = getCachedSessionProxy(targetSession, pool.sessionList);
 		}
 		return session;
 	}
@@ -245,9 +296,14 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 	 * handle a special framework Session just like an ordinary Session.
 	 * @param target the original Session to wrap
 	 * @param sessionList the List of cached Sessions that the given Session belongs to
+	 * (as of 5.2.3, only identifying the pool of cached Sessions for the given
+	 * Session's mode, with the Sessions themselves held in that pool)
 	 * @return the wrapped Session
 	 */
 	protected Session getCachedSessionProxy(Session target, LinkedList<Session> sessionList) {
+		Assert.isInstanceOf(SessionPool.SessionList.class, sessionList,
+				"Session list does not belong to this CachingConnectionFactory");
+		SessionPool pool = ((SessionPool.SessionList) sessionList).getPool();
 		List<Class<?>> classes = new ArrayList<>(3);
 		classes.add(SessionProxy.class);
 		if (target instanceof QueueSession) {
@@ -257,7 +313,123 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 			classes.add(TopicSession.class);
 		}
 		return (Session) Proxy.newProxyInstance(SessionProxy.class.getClassLoader(),
-				ClassUtils.toClassArray(classes), new CachedSessionInvocationHandler(target, sessionList));
+				ClassUtils.toClassArray(classes), new CachedSessionInvocationHandler(target, pool));
+	}
+
+
+	/**
+	 * Non-blocking LIFO pool of cached Session proxies for a specific
+	 * acknowledgement mode, bounded by the session cache size.
+	 */
+	private class SessionPool {
+
+		final SessionList sessionList = new SessionList();
+
+		private final ConcurrentLinkedDeque<PooledSession> idleSessions = new ConcurrentLinkedDeque<>();
+
+		private final AtomicInteger idleCount = new AtomicInteger();
+
+		/**
+		 * Obtain the most recently returned Session, if any.
+		 */
+		@Nullable
+		public Session poll() {
+			PooledSession pooledSession = this.idleSessions.pollFirst();
+			if (pooledSession == null) {
+				return null;
+			}
+			this.idleCount.decrementAndGet();
+			pooledSession.handler.pooled = false;
+			return pooledSession.proxy;
+		}
+
+		/**
+		 * Reserve a slot for returning a Session to this pool.
+		 * @return {@code true} if the Session may be returned,
+		 * {@code false} if the pool is full already
+		 */
+		public boolean reserve() {
+			if (this.idleCount.incrementAndGet() <= getSessionCacheSize()) {
+				return true;
+			}
+			this.idleCount.decrementAndGet();
+			return false;
+		}
+
+		/**
+		 * Release a previously reserved slot without returning a Session.
+		 */
+		public void cancelReservation() {
+			this.idleCount.decrementAndGet();
+		}
+
+		/**
+		 * Return a Session to this pool, using a previously reserved slot.
+		 */
+		public void offer(Session proxy, CachedSessionInvocationHandler handler) {
+			long now = System.currentTimeMillis();
+			handler.pooled = true;
+			this.idleSessions.offerFirst(new PooledSession(proxy, handler, now));
+			long idleTimeout = getSessionIdleTimeout();
+			if (idleTimeout > 0) {
+				evictIdleSessions(now - idleTimeout);
+			}
+		}
+
+		private void evictIdleSessions(long returnedBefore) {
+			PooledSession eldest;
+			while ((eldest = this.idleSessions.peekLast()) != null && eldest.returned < returnedBefore) {
+				if (this.idleSessions.removeLastOccurrence(eldest)) {
+					this.idleCount.decrementAndGet();
+					eldest.handler.pooled = false;
+					if (logger.isDebugEnabled()) {
+						logger.debug("Closing idle cached Session: " + eldest.handler.target);
+					}
+					try {
+						eldest.handler.physicalClose();
+					}
+					catch (Throwable ex) {
+						logger.trace("Could not close idle JMS Session", ex);
+					}
+				}
+			}
+		}
+
+		public int getIdleCount() {
+			return Math.max(this.idleCount.get(), 0);
+		}
+
+		/**
+		 * Handle identifying this pool in {@link #getCachedSessionProxy},
+		 * not holding any Sessions itself.
+		 */
+		@SuppressWarnings("serial")
+		class SessionList extends LinkedList<Session> {
+
+			public SessionPool getPool() {
+				return SessionPool.this;
+			}
+		}
+	}
+
+
+	/**
+	 * A Session proxy held in a {@link SessionPool}, along with its
+	 * invocation handler and the time it was returned to the pool.
+	 */
+	private static class PooledSession {
+
+		final Session proxy;
+
+		final CachedSessionInvocationHandler handler;
+
+		final long returned;
+
+		PooledSession(Session proxy, CachedSessionInvocationHandler handler, long returned) {
+			this.proxy = proxy;
+			this.handler = handler;
+			this.returned = returned;
+		}
 	}
 
 
@@ -268,7 +440,7 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 
 		private final Session target;
 
-		private final LinkedList<Session> sessionList;
+		private final SessionPool pool;
 
 		private final Map<DestinationCacheKey, MessageProducer> cachedProducers = new HashMap<>();
 
@@ -276,9 +448,12 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 
 		private boolean transactionOpen = false;
 
-		public CachedSessionInvocationHandler(Session target, LinkedList<Session> sessionList) {
+		private volatile boolean pooled = false;
+
+		public CachedSessionInvocationHandler(Session target, SessionPool pool) {
 			this.target = target;
-			this.sessionList = sessionList;
+			this.pool = pool;
+			openSessionCount.incrementAndGet();
 		}
 
 		@Override
@@ -299,17 +474,20 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 			else if (methodName.equals("close")) {
 				// Handle close method: don't pass the call on.
 				if (active) {
-					synchronized (this.sessionList) {
-						if (this.sessionList.size() < getSessionCacheSize()) {
-							try {
-								logicalClose((Session) proxy);
-								// Remain open in the session list.
-								return null;
-							}
-							catch (JMSException ex) {
-								logger.trace("Logical close of cached JMS Session failed - discarding it", ex);
-								// Proceed to physical close from here...
-							}
+					if (this.pooled) {
+						// Allow for multiple close calls...
+						return null;
+					}
+					if (this.pool.reserve()) {
+						try {
+							logicalClose((Session) proxy);
+							// Remain open in the session pool.
+							return null;
+						}
+						catch (JMSException ex) {
+							this.pool.cancelReservation();
+							logger.trace("Logical close of cached JMS Session failed - discarding it", ex);
+							// Proceed to physical close from here...
 						}
 					}
 				}
@@ -453,15 +631,8 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 					it.remove();
 				}
 			}
-			// Allow for multiple close calls...
-			boolean returned = false;
-			synchronized (this.sessionList) {
-				if (!this.sessionList.contains(proxy)) {
-					this.sessionList.addLast(proxy);
-					returned = true;
-				}
-			}
-			if (returned && logger.isTraceEnabled()) {
+			this.pool.offer(proxy, this);
+			if (logger.isTraceEnabled()) {
 				logger.trace("Returned cached Session: " + this.target);
 			}
 		}
@@ -483,6 +654,7 @@ public class CachingConnectionFactory extends SingleConnectionFactory {
 			finally {
 				this.cachedProducers.clear();
 				this.cachedConsumers.clear();
+				openSessionCount.decrementAndGet();
 				// Now actually close the Session.
 				this.target.close();
 			}
@@ -16,6 +16,9 @@
 
 package org.springframework.jms.listener;
 
+import java.util.Collections;
+import java.util.List;
+
 import javax.jms.Connection;
 import javax.jms.Destination;
 import javax.jms.ExceptionListener;
@@ -302,8 +305,9 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 	/**
 	 * Check the given message listener, throwing an exception
 	 * if it does not correspond to a supported listener type.
-	 * <p>By default, only a standard JMS {@link MessageListener} object or a
-	 * Spring {@link SessionAwareMessageListener} object will be accepted.
+	 * <p>By default, only a standard JMS {@link MessageListener} object, a
+	 * Spring {@link SessionAwareMessageListener} object or a Spring
+	 * {@link BatchMessageListener} object will be accepted.
 	 * @param messageListener the message listener object to check
 	 * @throws IllegalArgumentException if the supplied listener is not a
 	 * {@link MessageListener} or a {@link SessionAwareMessageListener}
@@ -312,10 +316,12 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 	 */
 	protected void checkMessageListener(@Nullable Object messageListener) {
 		if (messageListener != null && !(messageListener instanceof MessageListener ||
-				messageListener instanceof SessionAwareMessageListener)) {
+				messageListener instanceof SessionAwareMessageListener ||
+				messageListener instanceof BatchMessageListener)) {
 			throw new IllegalArgumentException(
 					"Message listener needs to be of type [" + MessageListener.class.getName() +
-					"] or [" + SessionAwareMessageListener.class.getName() + "]");
+					"], [" + SessionAwareMessageListener.class.getName() + "] or [" +
+					BatchMessageListener.class.getName() + "]");
 		}
 	}
 
@@ -680,9 +686,42 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 		commitIfNecessary(session, message);
 	}
 
+	/**
+	 * Execute the specified listener for a batch of messages,
+	 * committing or rolling back the transaction once for the entire batch.
+	 * @param session the JMS Session to operate on
+	 * @param messages the received JMS Messages
+	 * @throws JMSException if thrown by JMS API methods
+	 * @since 5.2.3
+	 * @see #invokeListener(Session, List)
+	 * @see #commitIfNecessary
+	 * @see #rollbackOnExceptionIfNecessary
+	 */
+	protected void doExecuteListener(Session session, List<Message> messages) throws JMSException {
+		if (!isAcceptMessagesWhileStopping() && !isRunning()) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Rejecting received messages because of the listener container " +
+						"having been stopped in the meantime: " + messages);
+			}
+			rollbackIfNecessary(session);
+			throw new MessageRejectedWhileStoppingException();
+		}
+
+		try {
+			invokeListener(session, messages);
+		}
+		catch (JMSException | RuntimeException | Error ex) {
+			rollbackOnExceptionIfNecessary(session, ex);
+			throw ex;
+		}
+		// Acknowledging the last message acknowledges all messages consumed by the Session.
+		commitIfNecessary(session, messages.get(messages.size() - 1));
+	}
+
 	/**
 	 * Invoke the specified listener: either as standard JMS MessageListener
-	 * or (preferably) as Spring SessionAwareMessageListener.
+	 * or (preferably) as Spring SessionAwareMessageListener, or as Spring
+	 * BatchMessageListener with a batch of one.
 	 * @param session the JMS Session to operate on
 	 * @param message the received JMS Message
 	 * @throws JMSException if thrown by JMS API methods
@@ -698,15 +737,40 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 		else if (listener instanceof MessageListener) {
 			doInvokeListener((MessageListener) listener, message);
 		}
+		else if (listener instanceof BatchMessageListener) {
+			((BatchMessageListener) listener).onMessages(Collections.singletonList(message), session);
+		}
 		else if (listener != null) {
 			throw new IllegalArgumentException(
-					"Only MessageListener and SessionAwareMessageListener supported: " + listener);
+					"Only MessageListener, SessionAwareMessageListener and BatchMessageListener supported: " + listener);
 		}
 		else {
 			throw new IllegalStateException("No message listener specified - see property 'messageListener'");
 		}
 	}
 
+	/**
+	 * Invoke the specified listener for a batch of messages: either as
+	 * Spring BatchMessageListener or, for any other type of listener,
+	 * once for each message.
+	 * @param session the JMS Session to operate on
+	 * @param messages the received JMS Messages
+	 * @throws JMSException if thrown by JMS API methods
+	 * @since 5.2.3
+	 * @see #setMessageListener
+	 */
+	protected void invokeListener(Session session, List<Message> messages) throws JMSException {
+		Object listener = getMessageListener();
+		if (listener instanceof BatchMessageListener) {
+			((BatchMessageListener) listener).onMessages(messages, session);
+		}
+		else {
+			for (Message message : messages) {
+				invokeListener(session, message);
+			}
+		}
+	}
+
 	/**
 	 * Invoke the specified listener as Spring SessionAwareMessageListener,
 	 * exposing a new JMS Session (potentially with its own transaction)
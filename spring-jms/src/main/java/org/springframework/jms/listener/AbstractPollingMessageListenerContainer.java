@@ -16,6 +16,9 @@
 
 package org.springframework.jms.listener;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.jms.Connection;
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -94,6 +97,10 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private int batchSize = 1;
+
+	private long batchReceiveTimeout = 0;
+
 
 	@Override
 	public void setSessionTransacted(boolean sessionTransacted) {
@@ -182,6 +189,59 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 		return this.receiveTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages to receive and process as a batch.
+	 * <p>Default is 1, processing each message on its own. With a higher value,
+	 * further messages get received after the first one until the batch is full
+	 * or no further message arrives within the
+	 * {@link #setBatchReceiveTimeout "batchReceiveTimeout"}. The batch is then
+	 * handed to a {@link BatchMessageListener} at once, or to any other type
+	 * of listener one message at a time.
+	 * <p>Note that a single commit (or acknowledgement) per batch only applies
+	 * to transacted sessions and to {@code CLIENT_ACKNOWLEDGE} mode, where a
+	 * listener exception causes all messages in the batch to be rolled back
+	 * (or recovered). With {@code AUTO_ACKNOWLEDGE} and {@code DUPS_OK_ACKNOWLEDGE},
+	 * each message gets acknowledged by the JMS provider as soon as it has been
+	 * received.
+	 * @since 5.2.3
+	 * @see BatchMessageListener
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Return the maximum number of messages to process as a batch.
+	 * @since 5.2.3
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the maximum time (in milliseconds) to wait for further messages
+	 * to complete a batch, measured from the receipt of its first message.
+	 * <p>Default is 0, only adding messages which are immediately available.
+	 * <b>NOTE:</b> Like the receive timeout, this value needs to be smaller
+	 * than the transaction timeout used by the transaction manager.
+	 * @since 5.2.3
+	 * @see #setBatchSize
+	 */
+	public void setBatchReceiveTimeout(long batchReceiveTimeout) {
+		Assert.isTrue(batchReceiveTimeout >= 0, "'batchReceiveTimeout' must not be negative");
+		this.batchReceiveTimeout = batchReceiveTimeout;
+	}
+
+	/**
+	 * Return the maximum time (in milliseconds) to wait for further messages
+	 * to complete a batch.
+	 * @since 5.2.3
+	 */
+	public long getBatchReceiveTimeout() {
+		return this.batchReceiveTimeout;
+	}
+
 
 	@Override
 	public void initialize() {
@@ -302,8 +362,10 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 			}
 			Message message = receiveMessage(consumerToUse);
 			if (message != null) {
+				List<Message> batch = (this.batchSize > 1 ? receiveBatch(consumerToUse, message) : null);
 				if (logger.isDebugEnabled()) {
-					logger.debug("Received message of type [" + message.getClass() + "] from consumer [" +
+					logger.debug("Received " + (batch != null ? "batch of " + batch.size() + " messages" :
+							"message of type [" + message.getClass() + "]") + " from consumer [" +
 							consumerToUse + "] of " + (transactional ? "transactional " : "") + "session [" +
 							sessionToUse + "]");
 				}
@@ -315,7 +377,12 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 							obtainConnectionFactory(), new LocallyExposedJmsResourceHolder(sessionToUse));
 				}
 				try {
-					doExecuteListener(sessionToUse, message);
+					if (batch != null) {
+						doExecuteListener(sessionToUse, batch);
+					}
+					else {
+						doExecuteListener(sessionToUse, message);
+					}
 				}
 				catch (Throwable ex) {
 					if (status != null) {
@@ -418,6 +485,33 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 		return receiveFromConsumer(consumer, getReceiveTimeout());
 	}
 
+	/**
+	 * Receive further messages from the given consumer in order to complete a
+	 * batch, until the batch size has been reached or the batch receive timeout
+	 * has elapsed.
+	 * @param consumer the MessageConsumer to use
+	 * @param firstMessage the message which has been received already
+	 * @return the batch of messages, starting with the given message
+	 * @throws JMSException if thrown by JMS methods
+	 * @since 5.2.3
+	 * @see #setBatchSize
+	 * @see #setBatchReceiveTimeout
+	 */
+	protected List<Message> receiveBatch(MessageConsumer consumer, Message firstMessage) throws JMSException {
+		List<Message> batch = new ArrayList<>(this.batchSize);
+		batch.add(firstMessage);
+		long deadline = System.currentTimeMillis() + this.batchReceiveTimeout;
+		while (batch.size() < this.batchSize) {
+			long remaining = deadline - System.currentTimeMillis();
+			Message message = receiveFromConsumer(consumer, (remaining > 0 ? remaining : RECEIVE_TIMEOUT_NO_WAIT));
+			if (message == null) {
+				break;
+			}
+			batch.add(message);
+		}
+		return batch;
+	}
+
 	/**
 	 * Template method that gets called right when a new message has been received,
 	 * before attempting to process it. Allows subclasses to react to the event
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jms.listener;
+
+import java.util.List;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+
+/**
+ * Variant of the standard JMS {@link javax.jms.MessageListener} interface,
+ * receiving a batch of messages at once along with the underlying JMS Session.
+ *
+ * <p>Supported by Spring's {@link DefaultMessageListenerContainer} in
+ * combination with a {@link AbstractPollingMessageListenerContainer#setBatchSize
+ * "batchSize"} greater than 1, in which case the transaction gets committed
+ * (or the messages acknowledged) once per batch. With other containers or a
+ * batch size of 1, the listener gets invoked with one message at a time.
+ *
+ * @author Philipp Kessler
+ * @since 5.2.3
+ * @see AbstractMessageListenerContainer#setMessageListener
+ * @see AbstractPollingMessageListenerContainer#setBatchSize
+ */
+@FunctionalInterface
+public interface BatchMessageListener {
+
+	/**
+	 * Callback for processing a batch of received JMS messages.
+	 * <p>An exception thrown from this method causes the entire batch to be
+	 * rolled back (or recovered, in case of client acknowledgement).
+	 * @param messages the received JMS messages (never empty)
+	 * @param session the underlying JMS Session (never {@code null})
+	 * @throws JMSException if thrown by JMS methods
+	 */
+	void onMessages(List<Message> messages, Session session) throws JMSException;
+
+}
@@ -17,11 +17,13 @@
 package org.springframework.jms.listener;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
 
 import javax.jms.Connection;
 import javax.jms.JMSException;
+import javax.jms.Message;
 import javax.jms.MessageConsumer;
 import javax.jms.Session;
 
@@ -99,6 +101,16 @@ import org.springframework.util.backoff.FixedBackOff;
  * number of 1 consumer, otherwise you'd receive the same message multiple times on
  * the same node.
  *
+ * <p>As an alternative to the idle-based scaling described above, a
+ * {@link #setConsumerLagThreshold "consumerLagThreshold"} can be specified:
+ * Additional consumers will then be scheduled whenever the measured lag of
+ * received messages (the time between sending and receipt) exceeds the given
+ * threshold, which reacts to a growing backlog more directly. Since blocked
+ * consumers are cheap on a {@code TaskExecutor} that does not dedicate a
+ * platform thread to each task (for example, an executor backed by virtual
+ * threads on newer JDKs), a higher "maxConcurrentConsumers" value is reasonable
+ * in such a setup.
+ *
  * <p><b>Note: Don't use Spring's {@link org.springframework.jms.connection.CachingConnectionFactory}
  * in combination with dynamic scaling.</b> Ideally, don't use it with a message
  * listener container at all, since it is generally preferable to let the
@@ -192,6 +204,10 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 
 	private int idleTaskExecutionLimit = 1;
 
+	private volatile long consumerLagThreshold = -1;
+
+	private volatile long messageLag;
+
 	private final Set<AsyncMessageListenerInvoker> scheduledInvokers = new HashSet<>();
 
 	private int activeInvokerCount = 0;
@@ -220,6 +236,9 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 	 * managed in a specific fashion, for example within a Java EE environment.
 	 * A plain thread pool does not add much value, as this listener container
 	 * will occupy a number of threads for its entire lifetime.
+	 * <p>Any {@link Executor} may be specified here, including one which runs
+	 * each task on a virtual thread (on a JDK which supports them), avoiding
+	 * a dedicated platform thread for each blocking receive loop.
 	 * @see #setConcurrentConsumers
 	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor
 	 * @see org.springframework.scheduling.commonj.WorkManagerTaskExecutor
@@ -508,6 +527,43 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 		}
 	}
 
+	/**
+	 * Specify the message lag (in milliseconds) above which additional consumers
+	 * are to be scheduled, up to the {@link #setMaxConcurrentConsumers
+	 * "maxConcurrentConsumers"} limit.
+	 * <p>The lag is measured as the time between a message's
+	 * {@link Message#getJMSTimestamp() JMSTimestamp} and its receipt, smoothed
+	 * across received messages (including all messages of a received batch) and
+	 * reset once a receive attempt times out without a message. Scaling up then happens as soon as a backlog builds up,
+	 * independent of the {@link #setIdleConsumerLimit "idleConsumerLimit"};
+	 * a consumer task beyond the "concurrentConsumers" limit shuts down once it
+	 * reached the {@link #setIdleTaskExecutionLimit "idleTaskExecutionLimit"}
+	 * while the lag is below the threshold.
+	 * <p>Default is -1, using idle-based scaling instead. Note that the lag
+	 * measurement relies on the clocks of message producers and this consumer
+	 * being reasonably in sync, and on the JMS provider not disabling message
+	 * timestamps.
+	 * <p><b>This setting can be modified at runtime, for example through JMX.</b>
+	 * @since 5.2.3
+	 * @see #getCurrentMessageLag()
+	 */
+	public void setConsumerLagThreshold(long consumerLagThreshold) {
+		synchronized (this.lifecycleMonitor) {
+			this.consumerLagThreshold = consumerLagThreshold;
+		}
+	}
+
+	/**
+	 * Return the message lag above which additional consumers are scheduled,
+	 * or -1 for idle-based scaling.
+	 * @since 5.2.3
+	 */
+	public final long getConsumerLagThreshold() {
+		synchronized (this.lifecycleMonitor) {
+			return this.consumerLagThreshold;
+		}
+	}
+
 
 	//-------------------------------------------------------------------------
 	// Implementation of AbstractMessageListenerContainer's template methods
@@ -669,6 +725,17 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 		}
 	}
 
+	/**
+	 * Return the currently measured message lag (in milliseconds),
+	 * i.e. the smoothed time between sending and receipt of recent messages.
+	 * <p>Only measured if a {@link #setConsumerLagThreshold "consumerLagThreshold"}
+	 * has been specified; 0 otherwise, as well as after a receive attempt timed out.
+	 * @since 5.2.3
+	 */
+	public final long getCurrentMessageLag() {
+		return this.messageLag;
+	}
+
 	/**
 	 * Return whether at least one consumer has entered a fixed registration with the
 	 * target destination. This is particularly interesting for the pub-sub case where
@@ -735,6 +802,45 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 		this.taskExecutor.execute((Runnable) task);
 	}
 
+	/**
+	 * Records the lag of a received message, if lag-based scaling is active.
+	 * @see #setConsumerLagThreshold
+	 */
+	@Override
+	@Nullable
+	protected Message receiveMessage(MessageConsumer consumer) throws JMSException {
+		Message message = super.receiveMessage(consumer);
+		if (message != null) {
+			recordMessageLag(message);
+		}
+		return message;
+	}
+
+	/**
+	 * Records the lag of the further messages received for a batch,
+	 * if lag-based scaling is active.
+	 * @see #setConsumerLagThreshold
+	 */
+	@Override
+	protected List<Message> receiveBatch(MessageConsumer consumer, Message firstMessage) throws JMSException {
+		List<Message> batch = super.receiveBatch(consumer, firstMessage);
+		for (int i = 1; i < batch.size(); i++) {
+			recordMessageLag(batch.get(i));
+		}
+		return batch;
+	}
+
+	private void recordMessageLag(Message message) throws JMSException {
+		if (this.consumerLagThreshold >= 0) {
+			long timestamp = message.getJMSTimestamp();
+			if (timestamp > 0) {
+				long lag = Math.max(System.currentTimeMillis() - timestamp, 0);
+				// Smooth out concurrent measurements; lost updates are acceptable here.
+				this.messageLag = (this.messageLag + lag) / 2;
+			}
+		}
+	}
+
 	/**
 	 * Tries scheduling a new invoker, since we know messages are coming in...
 	 * @see #scheduleNewInvokerIfAppropriate()
@@ -746,30 +852,37 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 	}
 
 	/**
-	 * Marks the affected invoker as idle.
+	 * Marks the affected invoker as idle, and resets the measured message lag
+	 * since there is evidently no backlog at this point.
 	 */
 	@Override
 	protected void noMessageReceived(Object invoker, Session session) {
 		((AsyncMessageListenerInvoker) invoker).setIdle(true);
+		this.messageLag = 0;
 	}
 
 	/**
 	 * Schedule a new invoker, increasing the total number of scheduled
 	 * invokers for this listener container, but only if the specified
 	 * "maxConcurrentConsumers" limit has not been reached yet, and only
-	 * if the specified "idleConsumerLimit" has not been reached either.
+	 * if the specified "idleConsumerLimit" has not been reached either
+	 * (or, with lag-based scaling, if the measured message lag exceeds
+	 * the specified "consumerLagThreshold").
 	 * <p>Called once a message has been received, in order to scale up while
 	 * processing the message in the invoker that originally received it.
 	 * @see #setTaskExecutor
 	 * @see #getMaxConcurrentConsumers()
 	 * @see #getIdleConsumerLimit()
+	 * @see #getConsumerLagThreshold()
 	 */
 	protected void scheduleNewInvokerIfAppropriate() {
 		if (isRunning()) {
 			resumePausedTasks();
 			synchronized (this.lifecycleMonitor) {
-				if (this.scheduledInvokers.size() < this.maxConcurrentConsumers &&
-						getIdleInvokerCount() < this.idleConsumerLimit) {
+				boolean demand = (this.consumerLagThreshold >= 0 ?
+						this.messageLag > this.consumerLagThreshold :
+						getIdleInvokerCount() < this.idleConsumerLimit);
+				if (this.scheduledInvokers.size() < this.maxConcurrentConsumers && demand) {
 					scheduleNewInvoker();
 					if (logger.isDebugEnabled()) {
 						logger.debug("Raised scheduled invoker count: " + this.scheduledInvokers.size());
@@ -786,8 +899,9 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 	 * that this invoker task has already accumulated (in a row)
 	 */
 	private boolean shouldRescheduleInvoker(int idleTaskExecutionCount) {
-		boolean superfluous =
-				(idleTaskExecutionCount >= this.idleTaskExecutionLimit && getIdleInvokerCount() > 1);
+		boolean superfluous = (idleTaskExecutionCount >= this.idleTaskExecutionLimit &&
+				(this.consumerLagThreshold >= 0 ? this.messageLag <= this.consumerLagThreshold :
+						getIdleInvokerCount() > 1));
 		return (this.scheduledInvokers.size() <=
 				(superfluous ? this.concurrentConsumers : this.maxConcurrentConsumers));
 	}
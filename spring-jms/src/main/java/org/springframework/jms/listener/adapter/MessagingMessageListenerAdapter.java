@@ -16,10 +16,15 @@
 
 package org.springframework.jms.listener.adapter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.jms.JMSException;
 import javax.jms.Session;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.jms.listener.BatchMessageListener;
 import org.springframework.jms.support.JmsHeaderMapper;
 import org.springframework.jms.support.converter.MessageConversionException;
 import org.springframework.lang.Nullable;
@@ -42,17 +47,30 @@ import org.springframework.util.Assert;
  * are provided as additional arguments so that these can be injected as
  * method arguments if necessary.
  *
+ * <p>As of 5.2.3, this adapter also accepts batches of messages from a listener
+ * container configured with a {@code batchSize} greater than 1. A handler method
+ * opts into batch processing by declaring a parameter of type
+ * {@code List<javax.jms.Message>} or {@code List<Message<?>>}, in which case it
+ * gets invoked once per batch with the received JMS messages or with the
+ * converted messages, including their headers. Any other handler method gets
+ * invoked once for each message in the batch, just like for individually
+ * received messages.
+ *
  * @author Stephane Nicoll
  * @since 4.1
  * @see Message
  * @see JmsHeaderMapper
  * @see InvocableHandlerMethod
  */
-public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageListener {
+public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageListener
+		implements BatchMessageListener {
 
 	@Nullable
 	private InvocableHandlerMethod handlerMethod;
 
+	@Nullable
+	private volatile Class<?> batchElementType;
+
 
 	/**
 	 * Set the {@link InvocableHandlerMethod} to use to invoke the method
@@ -60,6 +78,7 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 	 */
 	public void setHandlerMethod(InvocableHandlerMethod handlerMethod) {
 		this.handlerMethod = handlerMethod;
+		this.batchElementType = null;
 	}
 
 	private InvocableHandlerMethod getHandlerMethod() {
@@ -74,7 +93,7 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 		if (logger.isDebugEnabled()) {
 			logger.debug("Processing [" + message + "]");
 		}
-		Object result = invokeHandler(jmsMessage, session, message);
+		Object result = invokeHandler(message, jmsMessage, session);
 		if (result != null) {
 			handleResult(result, jmsMessage, session);
 		}
@@ -83,6 +102,64 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 		}
 	}
 
+	@Override
+	public void onMessages(List<javax.jms.Message> jmsMessages, Session session) throws JMSException {
+		Class<?> elementType = getBatchElementType();
+		if (elementType == void.class) {
+			for (javax.jms.Message jmsMessage : jmsMessages) {
+				onMessage(jmsMessage, session);
+			}
+			return;
+		}
+		List<?> batch;
+		if (elementType == javax.jms.Message.class) {
+			batch = jmsMessages;
+		}
+		else {
+			List<Message<?>> messages = new ArrayList<>(jmsMessages.size());
+			for (javax.jms.Message jmsMessage : jmsMessages) {
+				messages.add(toMessagingMessage(jmsMessage));
+			}
+			batch = messages;
+		}
+		Message<List<?>> message = MessageBuilder.<List<?>>withPayload(batch).build();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Processing batch of " + batch.size() + " messages");
+		}
+		Object result = invokeHandler(message, batch, session);
+		if (result != null) {
+			// Reply destination (if any) determined by the last message in the batch
+			handleResult(result, jmsMessages.get(jmsMessages.size() - 1), session);
+		}
+		else {
+			logger.trace("No result object given - no result to handle");
+		}
+	}
+
+	/**
+	 * Determine the element type of the batch accepted by the handler method:
+	 * {@code javax.jms.Message} for a {@code List<javax.jms.Message>} parameter,
+	 * {@link Message} for a {@code List<Message<?>>} parameter, or {@code void}
+	 * if the handler method processes a single message at a time.
+	 */
+	private Class<?> getBatchElementType() {
+		Class<?> elementType = this.batchElementType;
+		if (elementType == null) {
+			elementType = void.class;
+			for (MethodParameter parameter : getHandlerMethod().getMethodParameters()) {
+				if (parameter.getParameterType() == List.class) {
+					Class<?> candidate = ResolvableType.forMethodParameter(parameter).resolveGeneric();
+					if (candidate == javax.jms.Message.class || candidate == Message.class) {
+						elementType = candidate;
+						break;
+					}
+				}
+			}
+			this.batchElementType = elementType;
+		}
+		return elementType;
+	}
+
 	@Override
 	protected Object preProcessResponse(Object result) {
 		MethodParameter returnType = getHandlerMethod().getReturnType();
@@ -108,10 +185,10 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 	 * with a dedicated error message.
 	 */
 	@Nullable
-	private Object invokeHandler(javax.jms.Message jmsMessage, @Nullable Session session, Message<?> message) {
+	private Object invokeHandler(Message<?> message, @Nullable Object... providedArgs) {
 		InvocableHandlerMethod handlerMethod = getHandlerMethod();
 		try {
-			return handlerMethod.invoke(message, jmsMessage, session);
+			return handlerMethod.invoke(message, providedArgs);
 		}
 		catch (MessagingException ex) {
 			throw new ListenerExecutionFailedException(
@@ -16,6 +16,8 @@
 
 package org.springframework.jms.connection;
 
+import java.util.LinkedList;
+
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.ExceptionListener;
@@ -533,4 +535,102 @@ public class SingleConnectionFactoryTests {
 		verify(con).close();
 	}
 
+	@Test
+	public void testCachingConnectionFactoryWithLifoSessionReuse() throws JMSException {
+		ConnectionFactory cf = mock(ConnectionFactory.class);
+		Connection con = mock(Connection.class);
+		Session targetSession1 = mock(Session.class);
+		Session targetSession2 = mock(Session.class);
+
+		given(cf.createConnection()).willReturn(con);
+		given(con.createSession(false, Session.AUTO_ACKNOWLEDGE)).willReturn(targetSession1, targetSession2);
+
+		CachingConnectionFactory scf = new CachingConnectionFactory(cf);
+		scf.setReconnectOnException(false);
+		scf.setSessionCacheSize(2);
+		Connection con1 = scf.createConnection();
+		Session session1 = con1.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		Session session2 = con1.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		assertThat(scf.getActiveSessionCount()).isEqualTo(2);
+		assertThat(scf.getIdleSessionCount()).isEqualTo(0);
+
+		session1.close();
+		session2.close();
+		session2.close();  // repeated close should be ignored
+		assertThat(scf.getActiveSessionCount()).isEqualTo(0);
+		assertThat(scf.getIdleSessionCount()).isEqualTo(2);
+
+		Session session = con1.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		assertThat(((SessionProxy) session).getTargetSession()).isSameAs(targetSession2);
+		assertThat(scf.getActiveSessionCount()).isEqualTo(1);
+		assertThat(scf.getIdleSessionCount()).isEqualTo(1);
+		session.close();
+		con1.close();
+		scf.destroy();  // should trigger actual close
+
+		verify(targetSession1).close();
+		verify(targetSession2).close();
+		verify(con, times(2)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+		assertThat(scf.getIdleSessionCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void testCachingConnectionFactoryWithSessionIdleTimeout() throws Exception {
+		ConnectionFactory cf = mock(ConnectionFactory.class);
+		Connection con = mock(Connection.class);
+		Session targetSession1 = mock(Session.class);
+		Session targetSession2 = mock(Session.class);
+
+		given(cf.createConnection()).willReturn(con);
+		given(con.createSession(false, Session.AUTO_ACKNOWLEDGE)).willReturn(targetSession1, targetSession2);
+
+		CachingConnectionFactory scf = new CachingConnectionFactory(cf);
+		scf.setReconnectOnException(false);
+		scf.setSessionCacheSize(2);
+		scf.setSessionIdleTimeout(1);
+		Connection con1 = scf.createConnection();
+		Session session1 = con1.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		Session session2 = con1.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		session1.close();
+		Thread.sleep(10);
+		session2.close();  // should evict the idle first Session
+
+		verify(targetSession1).close();
+		assertThat(scf.getIdleSessionCount()).isEqualTo(1);
+		con1.close();
+		scf.destroy();
+		verify(targetSession2).close();
+	}
+
+	@Test
+	public void testCachingConnectionFactoryWithCustomSessionProxy() throws JMSException {
+		ConnectionFactory cf = mock(ConnectionFactory.class);
+		Connection con = mock(Connection.class);
+		Session targetSession = mock(Session.class);
+
+		given(cf.createConnection()).willReturn(con);
+		given(con.createSession(false, Session.AUTO_ACKNOWLEDGE)).willReturn(targetSession);
+
+		LinkedList<Session> proxiedSessions = new LinkedList<>();
+		CachingConnectionFactory scf = new CachingConnectionFactory(cf) {
+			@Override
+			protected Session getCachedSessionProxy(Session target, LinkedList<Session> sessionList) {
+				proxiedSessions.add(target);
+				return super.getCachedSessionProxy(target, sessionList);
+			}
+		};
+		scf.setReconnectOnException(false);
+		Connection con1 = scf.createConnection();
+		Session session1 = con1.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		session1.close();
+		Session session2 = con1.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		assertThat(session2).isSameAs(session1);
+		session2.close();
+		con1.close();
+		scf.destroy();
+
+		assertThat(proxiedSessions).containsExactly(targetSession);
+		verify(targetSession).close();
+	}
+
 }
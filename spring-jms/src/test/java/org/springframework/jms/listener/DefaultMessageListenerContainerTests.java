@@ -16,6 +16,8 @@
 
 package org.springframework.jms.listener;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -23,6 +25,9 @@ import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
@@ -106,6 +111,94 @@ public class DefaultMessageListenerContainerTests {
 		runnable2.waitForCompletion();
 	}
 
+	@Test
+	public void batchReceiveCommitsOncePerBatch() throws JMSException {
+		Session session = mock(Session.class);
+		given(session.getTransacted()).willReturn(true);
+		MessageConsumer consumer = mock(MessageConsumer.class);
+		Message message1 = mock(Message.class);
+		Message message2 = mock(Message.class);
+		Message message3 = mock(Message.class);
+		given(consumer.receive(1000)).willReturn(message1);
+		given(consumer.receiveNoWait()).willReturn(message2, message3, null);
+
+		List<List<Message>> batches = new ArrayList<>();
+		DefaultMessageListenerContainer container = createBatchContainer();
+		container.setMessageListener((BatchMessageListener) (messages, s) -> batches.add(messages));
+		container.setBatchSize(5);
+
+		assertThat(container.receiveAndExecute(new Object(), session, consumer)).isTrue();
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).containsExactly(message1, message2, message3);
+		verify(session, times(1)).commit();
+	}
+
+	@Test
+	public void batchReceiveRespectsBatchSizeForPlainListener() throws JMSException {
+		Session session = mock(Session.class);
+		given(session.getTransacted()).willReturn(true);
+		MessageConsumer consumer = mock(MessageConsumer.class);
+		Message message1 = mock(Message.class);
+		Message message2 = mock(Message.class);
+		given(consumer.receive(1000)).willReturn(message1);
+		given(consumer.receiveNoWait()).willReturn(message2);
+
+		List<Message> messages = new ArrayList<>();
+		DefaultMessageListenerContainer container = createBatchContainer();
+		container.setMessageListener((javax.jms.MessageListener) messages::add);
+		container.setBatchSize(2);
+
+		assertThat(container.receiveAndExecute(new Object(), session, consumer)).isTrue();
+		assertThat(messages).containsExactly(message1, message2);
+		verify(consumer, times(1)).receiveNoWait();
+		verify(session, times(1)).commit();
+	}
+
+	@Test
+	public void consumerLagMeasuredWithLagThreshold() throws JMSException {
+		MessageConsumer consumer = mock(MessageConsumer.class);
+		Message message = mock(Message.class);
+		given(message.getJMSTimestamp()).willReturn(System.currentTimeMillis() - 10000);
+		given(consumer.receive(1000)).willReturn(message);
+
+		DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+		assertThat(container.receiveMessage(consumer)).isSameAs(message);
+		assertThat(container.getCurrentMessageLag()).isEqualTo(0);
+
+		container.setConsumerLagThreshold(1000);
+		container.receiveMessage(consumer);
+		container.receiveMessage(consumer);
+		assertThat(container.getCurrentMessageLag()).isGreaterThan(1000);
+	}
+
+	@Test
+	public void consumerLagMeasuredForBatch() throws JMSException {
+		MessageConsumer consumer = mock(MessageConsumer.class);
+		Message message1 = mock(Message.class);
+		Message message2 = mock(Message.class);
+		given(message2.getJMSTimestamp()).willReturn(System.currentTimeMillis() - 10000);
+		given(consumer.receiveNoWait()).willReturn(message2, message2, null);
+
+		DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+		container.setBatchSize(10);
+		container.setConsumerLagThreshold(1000);
+		assertThat(container.receiveBatch(consumer, message1)).containsExactly(message1, message2, message2);
+		assertThat(container.getCurrentMessageLag()).isGreaterThan(1000);
+	}
+
+
+	private DefaultMessageListenerContainer createBatchContainer() {
+		DefaultMessageListenerContainer container = new DefaultMessageListenerContainer() {
+			@Override
+			protected void messageReceived(Object invoker, Session session) {
+			}
+		};
+		container.setConnectionFactory(createSuccessfulConnectionFactory());
+		container.setDestination(new Destination() {});
+		container.setSessionTransacted(true);
+		container.setAcceptMessagesWhileStopping(true);
+		return container;
+	}
 
 	private DefaultMessageListenerContainer createRunningContainer() {
 		DefaultMessageListenerContainer container = createContainer(createSuccessfulConnectionFactory());
@@ -18,6 +18,7 @@ package org.springframework.jms.listener.adapter;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.jms.DeliveryMode;
@@ -95,6 +96,69 @@ public class MessagingMessageListenerAdapterTests {
 		assertThat(replyMessage.getJMSReplyTo()).as("replyTo header not copied").isEqualTo(replyTo);
 	}
 
+	@Test
+	public void batchOfMessagesWithMessageList() throws JMSException {
+		Session session = mock(Session.class);
+		StubTextMessage first = new StubTextMessage("foo");
+		first.setJMSCorrelationID("1");
+		StubTextMessage second = new StubTextMessage("bar");
+		second.setJMSCorrelationID("2");
+		MessagingMessageListenerAdapter listener = getSimpleInstance("batch", List.class);
+		listener.onMessages(Arrays.asList(first, second), session);
+
+		assertThat(sample.batches).hasSize(1);
+		List<Message<String>> batch = sample.batches.get(0);
+		assertThat(batch).hasSize(2);
+		assertThat(batch.get(0).getPayload()).isEqualTo("foo");
+		assertThat(batch.get(0).getHeaders().get(JmsHeaders.CORRELATION_ID)).isEqualTo("1");
+		assertThat(batch.get(1).getPayload()).isEqualTo("bar");
+		assertThat(batch.get(1).getHeaders().get(JmsHeaders.CORRELATION_ID)).isEqualTo("2");
+	}
+
+	@Test
+	public void batchOfMessagesWithJmsMessageList() throws JMSException {
+		Session session = mock(Session.class);
+		List<javax.jms.Message> jmsMessages = Arrays.asList(new StubTextMessage("foo"), new StubTextMessage("bar"));
+		MessagingMessageListenerAdapter listener = getSimpleInstance("jmsBatch", List.class, Session.class);
+		listener.onMessages(jmsMessages, session);
+
+		assertThat(sample.jmsBatches).hasSize(1);
+		assertThat(sample.jmsBatches.get(0)).containsExactlyElementsOf(jmsMessages);
+		assertThat(sample.sessions).containsExactly(session);
+	}
+
+	@Test
+	public void batchOfMessagesWithSingleMessageMethod() throws JMSException {
+		Session session = mock(Session.class);
+		MessagingMessageListenerAdapter listener = getSimpleInstance("simple", Message.class);
+		listener.onMessages(Arrays.asList(new StubTextMessage("foo"), new StubTextMessage("bar")), session);
+
+		assertThat(sample.simples).hasSize(2);
+		assertThat(sample.simples.get(0).getPayload()).isEqualTo("foo");
+		assertThat(sample.simples.get(1).getPayload()).isEqualTo("bar");
+	}
+
+	@Test
+	public void batchOfMessagesWithListPayloadMethod() throws JMSException {
+		Session session = mock(Session.class);
+		List<javax.jms.Message> jmsMessages = Arrays.asList(new StubTextMessage("foo"), new StubTextMessage("bar"));
+		MessagingMessageListenerAdapter listener = getSimpleInstance("listPayload", List.class, javax.jms.Message.class);
+		listener.setMessageConverter(new MessageConverter() {
+			@Override
+			public javax.jms.Message toMessage(Object object, Session session) {
+				throw new UnsupportedOperationException();
+			}
+			@Override
+			public Object fromMessage(javax.jms.Message message) throws JMSException {
+				return Arrays.asList(((TextMessage) message).getText().split(""));
+			}
+		});
+		listener.onMessages(jmsMessages, session);
+
+		assertThat(sample.payloadLists).containsExactly(Arrays.asList("f", "o", "o"), Arrays.asList("b", "a", "r"));
+		assertThat(sample.jmsMessages).containsExactlyElementsOf(jmsMessages);
+	}
+
 	@Test
 	public void exceptionInListener() {
 		javax.jms.Message message = new StubTextMessage("foo");
@@ -376,10 +440,34 @@ public class MessagingMessageListenerAdapterTests {
 
 		public final List<Message<String>> simples = new ArrayList<>();
 
+		public final List<List<Message<String>>> batches = new ArrayList<>();
+
+		public final List<List<javax.jms.Message>> jmsBatches = new ArrayList<>();
+
+		public final List<List<String>> payloadLists = new ArrayList<>();
+
+		public final List<javax.jms.Message> jmsMessages = new ArrayList<>();
+
+		public final List<Session> sessions = new ArrayList<>();
+
 		public void simple(Message<String> input) {
 			simples.add(input);
 		}
 
+		public void batch(List<Message<String>> messages) {
+			batches.add(messages);
+		}
+
+		public void jmsBatch(List<javax.jms.Message> messages, Session session) {
+			jmsBatches.add(messages);
+			sessions.add(session);
+		}
+
+		public void listPayload(List<String> payload, javax.jms.Message jmsMessage) {
+			payloadLists.add(payload);
+			jmsMessages.add(jmsMessage);
+		}
+
 		public Message<String> echo(Message<String> input) {
 			return MessageBuilder.withPayload(input.getPayload())
 					.setHeader(JmsHeaders.TYPE, "reply")
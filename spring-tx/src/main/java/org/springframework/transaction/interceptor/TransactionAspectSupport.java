@@ -33,6 +33,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.core.KotlinDetector;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -179,6 +180,9 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	private final ConcurrentMap<Method, ReactiveTransactionSupport> transactionSupportCache =
 			new ConcurrentReferenceHashMap<>(1024);
 
+	private final ConcurrentMap<MethodClassKey, TransactionExecutionPlan> executionPlanCache =
+			new ConcurrentReferenceHashMap<>(1024);
+
 
 	protected TransactionAspectSupport() {
 		if (reactiveStreamsPresent) {
@@ -353,11 +357,13 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 
 		PlatformTransactionManager ptm = asPlatformTransactionManager(tm);
-		final String joinpointIdentification = methodIdentification(method, targetClass, txAttr);
+		final TransactionExecutionPlan plan = getExecutionPlan(method, targetClass, txAttr);
+		final String joinpointIdentification = plan.getJoinpointIdentification();
 
 		if (txAttr == null || !(ptm instanceof CallbackPreferringPlatformTransactionManager)) {
 			// Standard transaction demarcation with getTransaction and commit/rollback calls.
-			TransactionInfo txInfo = createTransactionIfNecessary(ptm, txAttr, joinpointIdentification);
+			TransactionInfo txInfo = createTransactionIfNecessary(
+					ptm, plan.getNamedTransactionAttribute(), joinpointIdentification);
 
 			Object retVal;
 			try {
@@ -455,6 +461,27 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		this.beanFactory = null;
 	}
 
+	/**
+	 * Obtain the execution plan for the given method, reusing a previously
+	 * computed plan as long as the transaction attribute source keeps returning
+	 * the same attribute instance for it.
+	 * @param method the Method being invoked
+	 * @param targetClass the target class that we're invoking the method on
+	 * @param txAttr the current transaction attribute (may be {@code null})
+	 * @return the execution plan (never {@code null})
+	 */
+	private TransactionExecutionPlan getExecutionPlan(Method method, @Nullable Class<?> targetClass,
+			@Nullable TransactionAttribute txAttr) {
+
+		MethodClassKey cacheKey = new MethodClassKey(method, targetClass);
+		TransactionExecutionPlan plan = this.executionPlanCache.get(cacheKey);
+		if (plan == null || plan.transactionAttribute != txAttr) {
+			plan = new TransactionExecutionPlan(txAttr, methodIdentification(method, targetClass, txAttr));
+			this.executionPlanCache.put(cacheKey, plan);
+		}
+		return plan;
+	}
+
 	/**
 	 * Determine the specific transaction manager to use for the given transaction.
 	 */
@@ -689,6 +716,54 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	}
 
 
+	/**
+	 * Precomputed per-method state for {@link #invokeWithinTransaction}:
+	 * the joinpoint identification and the transaction attribute exposing
+	 * that identification as its name. Avoids per-call allocation of method
+	 * identification Strings and attribute decorators. The transaction manager
+	 * is still determined per invocation, since subclasses may route per call.
+	 */
+	private static final class TransactionExecutionPlan {
+
+		@Nullable
+		private final TransactionAttribute transactionAttribute;
+
+		private final String joinpointIdentification;
+
+		@Nullable
+		private final TransactionAttribute namedTransactionAttribute;
+
+		@SuppressWarnings("serial")
+		TransactionExecutionPlan(@Nullable TransactionAttribute transactionAttribute,
+				final String joinpointIdentification) {
+
+			this.transactionAttribute = transactionAttribute;
+			this.joinpointIdentification = joinpointIdentification;
+			if (transactionAttribute != null && transactionAttribute.getName() == null) {
+				// If no name specified, apply method identification as transaction name.
+				this.namedTransactionAttribute = new DelegatingTransactionAttribute(transactionAttribute) {
+					@Override
+					public String getName() {
+						return joinpointIdentification;
+					}
+				};
+			}
+			else {
+				this.namedTransactionAttribute = transactionAttribute;
+			}
+		}
+
+		public String getJoinpointIdentification() {
+			return this.joinpointIdentification;
+		}
+
+		@Nullable
+		public TransactionAttribute getNamedTransactionAttribute() {
+			return this.namedTransactionAttribute;
+		}
+	}
+
+
 	/**
 	 * Opaque object used to hold transaction information. Subclasses
 	 * must pass it back to methods on this class, but not see its internals.
@@ -16,12 +16,16 @@
 
 package org.springframework.transaction.support;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.apache.commons.logging.Log;
@@ -64,6 +68,11 @@ import org.springframework.util.Assert;
  * within a JTA transaction, e.g. a JDBC Connection or a Hibernate Session for
  * any given DataSource or SessionFactory, respectively.
  *
+ * <p>As of 5.2.3, all of this state is kept in a single per-thread holder
+ * object with plain fields, and resource bindings are kept in a small
+ * array-based table, in order to minimize {@code ThreadLocal} lookups and
+ * map allocations for nested transaction demarcation.
+ *
  * @author Juergen Hoeller
  * @since 02.06.2003
  * @see #isSynchronizationActive
@@ -78,23 +87,31 @@ public abstract class TransactionSynchronizationManager {
 
 	private static final Log logger = LogFactory.getLog(TransactionSynchronizationManager.class);
 
-	private static final ThreadLocal<Map<Object, Object>> resources =
-			new NamedThreadLocal<>("Transactional resources");
-
-	private static final ThreadLocal<Set<TransactionSynchronization>> synchronizations =
-			new NamedThreadLocal<>("Transaction synchronizations");
-
-	private static final ThreadLocal<String> currentTransactionName =
-			new NamedThreadLocal<>("Current transaction name");
+	private static final ThreadLocal<SynchronizationState> synchronizationState =
+			new NamedThreadLocal<>("Transaction synchronization state");
 
-	private static final ThreadLocal<Boolean> currentTransactionReadOnly =
-			new NamedThreadLocal<>("Current transaction read-only status");
 
-	private static final ThreadLocal<Integer> currentTransactionIsolationLevel =
-			new NamedThreadLocal<>("Current transaction isolation level");
+	/**
+	 * Return the state holder for the current thread, creating it if necessary.
+	 */
+	private static SynchronizationState obtainState() {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null) {
+			state = new SynchronizationState();
+			synchronizationState.set(state);
+		}
+		return state;
+	}
 
-	private static final ThreadLocal<Boolean> actualTransactionActive =
-			new NamedThreadLocal<>("Actual transaction active");
+	/**
+	 * Remove the state holder for the current thread if it does not
+	 * carry any resources, synchronizations or characteristics anymore.
+	 */
+	private static void releaseStateIfEmpty(SynchronizationState state) {
+		if (state.isEmpty()) {
+			synchronizationState.remove();
+		}
+	}
 
 
 	//-------------------------------------------------------------------------
@@ -111,8 +128,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #hasResource
 	 */
 	public static Map<Object, Object> getResourceMap() {
-		Map<Object, Object> map = resources.get();
-		return (map != null ? Collections.unmodifiableMap(map) : Collections.emptyMap());
+		SynchronizationState state = synchronizationState.get();
+		return (state != null ? state.getResourceMap() : Collections.emptyMap());
 	}
 
 	/**
@@ -150,18 +167,16 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	private static Object doGetResource(Object actualKey) {
-		Map<Object, Object> map = resources.get();
-		if (map == null) {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null) {
 			return null;
 		}
-		Object value = map.get(actualKey);
+		Object value = state.getResource(actualKey);
 		// Transparently remove ResourceHolder that was marked as void...
 		if (value instanceof ResourceHolder && ((ResourceHolder) value).isVoid()) {
-			map.remove(actualKey);
+			state.removeResource(actualKey);
 			// Remove entire ThreadLocal if empty...
-			if (map.isEmpty()) {
-				resources.remove();
-			}
+			releaseStateIfEmpty(state);
 			value = null;
 		}
 		return value;
@@ -177,13 +192,8 @@ public abstract class TransactionSynchronizationManager {
 	public static void bindResource(Object key, Object value) throws IllegalStateException {
 		Object actualKey = TransactionSynchronizationUtils.unwrapResourceIfNecessary(key);
 		Assert.notNull(value, "Value must not be null");
-		Map<Object, Object> map = resources.get();
-		// set ThreadLocal Map if none found
-		if (map == null) {
-			map = new HashMap<>();
-			resources.set(map);
-		}
-		Object oldValue = map.put(actualKey, value);
+		SynchronizationState state = obtainState();
+		Object oldValue = state.putResource(actualKey, value);
 		// Transparently suppress a ResourceHolder that was marked as void...
 		if (oldValue instanceof ResourceHolder && ((ResourceHolder) oldValue).isVoid()) {
 			oldValue = null;
@@ -231,15 +241,13 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	private static Object doUnbindResource(Object actualKey) {
-		Map<Object, Object> map = resources.get();
-		if (map == null) {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null) {
 			return null;
 		}
-		Object value = map.remove(actualKey);
+		Object value = state.removeResource(actualKey);
 		// Remove entire ThreadLocal if empty...
-		if (map.isEmpty()) {
-			resources.remove();
-		}
+		releaseStateIfEmpty(state);
 		// Transparently suppress a ResourceHolder that was marked as void...
 		if (value instanceof ResourceHolder && ((ResourceHolder) value).isVoid()) {
 			value = null;
@@ -262,7 +270,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #registerSynchronization
 	 */
 	public static boolean isSynchronizationActive() {
-		return (synchronizations.get() != null);
+		SynchronizationState state = synchronizationState.get();
+		return (state != null && state.synchronizations != null);
 	}
 
 	/**
@@ -275,7 +284,7 @@ public abstract class TransactionSynchronizationManager {
 			throw new IllegalStateException("Cannot activate transaction synchronization - already active");
 		}
 		logger.trace("Initializing transaction synchronization");
-		synchronizations.set(new LinkedHashSet<>());
+		obtainState().synchronizations = new LinkedHashSet<>();
 	}
 
 	/**
@@ -292,7 +301,8 @@ public abstract class TransactionSynchronizationManager {
 			throws IllegalStateException {
 
 		Assert.notNull(synchronization, "TransactionSynchronization must not be null");
-		Set<TransactionSynchronization> synchs = synchronizations.get();
+		SynchronizationState state = synchronizationState.get();
+		Set<TransactionSynchronization> synchs = (state != null ? state.synchronizations : null);
 		if (synchs == null) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
@@ -307,7 +317,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see TransactionSynchronization
 	 */
 	public static List<TransactionSynchronization> getSynchronizations() throws IllegalStateException {
-		Set<TransactionSynchronization> synchs = synchronizations.get();
+		SynchronizationState state = synchronizationState.get();
+		Set<TransactionSynchronization> synchs = (state != null ? state.synchronizations : null);
 		if (synchs == null) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
@@ -331,11 +342,13 @@ public abstract class TransactionSynchronizationManager {
 	 * @throws IllegalStateException if synchronization is not active
 	 */
 	public static void clearSynchronization() throws IllegalStateException {
-		if (!isSynchronizationActive()) {
+		SynchronizationState state = synchronizationState.get();
+		if (state == null || state.synchronizations == null) {
 			throw new IllegalStateException("Cannot deactivate transaction synchronization - not active");
 		}
 		logger.trace("Clearing transaction synchronization");
-		synchronizations.remove();
+		state.synchronizations = null;
+		releaseStateIfEmpty(state);
 	}
 
 
@@ -350,7 +363,16 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getName()
 	 */
 	public static void setCurrentTransactionName(@Nullable String name) {
-		currentTransactionName.set(name);
+		if (name != null) {
+			obtainState().currentTransactionName = name;
+		}
+		else {
+			SynchronizationState state = synchronizationState.get();
+			if (state != null) {
+				state.currentTransactionName = null;
+				releaseStateIfEmpty(state);
+			}
+		}
 	}
 
 	/**
@@ -361,7 +383,8 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	public static String getCurrentTransactionName() {
-		return currentTransactionName.get();
+		SynchronizationState state = synchronizationState.get();
+		return (state != null ? state.currentTransactionName : null);
 	}
 
 	/**
@@ -372,7 +395,16 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#isReadOnly()
 	 */
 	public static void setCurrentTransactionReadOnly(boolean readOnly) {
-		currentTransactionReadOnly.set(readOnly ? Boolean.TRUE : null);
+		if (readOnly) {
+			obtainState().currentTransactionReadOnly = true;
+		}
+		else {
+			SynchronizationState state = synchronizationState.get();
+			if (state != null) {
+				state.currentTransactionReadOnly = false;
+				releaseStateIfEmpty(state);
+			}
+		}
 	}
 
 	/**
@@ -388,7 +420,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see TransactionSynchronization#beforeCommit(boolean)
 	 */
 	public static boolean isCurrentTransactionReadOnly() {
-		return (currentTransactionReadOnly.get() != null);
+		SynchronizationState state = synchronizationState.get();
+		return (state != null && state.currentTransactionReadOnly);
 	}
 
 	/**
@@ -408,7 +441,16 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getIsolationLevel()
 	 */
 	public static void setCurrentTransactionIsolationLevel(@Nullable Integer isolationLevel) {
-		currentTransactionIsolationLevel.set(isolationLevel);
+		if (isolationLevel != null) {
+			obtainState().currentTransactionIsolationLevel = isolationLevel;
+		}
+		else {
+			SynchronizationState state = synchronizationState.get();
+			if (state != null) {
+				state.currentTransactionIsolationLevel = null;
+				releaseStateIfEmpty(state);
+			}
+		}
 	}
 
 	/**
@@ -430,7 +472,8 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	@Nullable
 	public static Integer getCurrentTransactionIsolationLevel() {
-		return currentTransactionIsolationLevel.get();
+		SynchronizationState state = synchronizationState.get();
+		return (state != null ? state.currentTransactionIsolationLevel : null);
 	}
 
 	/**
@@ -440,7 +483,16 @@ public abstract class TransactionSynchronizationManager {
 	 * with an actual transaction; {@code false} to reset that marker
 	 */
 	public static void setActualTransactionActive(boolean active) {
-		actualTransactionActive.set(active ? Boolean.TRUE : null);
+		if (active) {
+			obtainState().actualTransactionActive = true;
+		}
+		else {
+			SynchronizationState state = synchronizationState.get();
+			if (state != null) {
+				state.actualTransactionActive = false;
+				releaseStateIfEmpty(state);
+			}
+		}
 	}
 
 	/**
@@ -455,7 +507,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #isSynchronizationActive()
 	 */
 	public static boolean isActualTransactionActive() {
-		return (actualTransactionActive.get() != null);
+		SynchronizationState state = synchronizationState.get();
+		return (state != null && state.actualTransactionActive);
 	}
 
 
@@ -469,11 +522,173 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #setActualTransactionActive
 	 */
 	public static void clear() {
-		synchronizations.remove();
-		currentTransactionName.remove();
-		currentTransactionReadOnly.remove();
-		currentTransactionIsolationLevel.remove();
-		actualTransactionActive.remove();
+		SynchronizationState state = synchronizationState.get();
+		if (state != null) {
+			state.synchronizations = null;
+			state.currentTransactionName = null;
+			state.currentTransactionReadOnly = false;
+			state.currentTransactionIsolationLevel = null;
+			state.actualTransactionActive = false;
+			releaseStateIfEmpty(state);
+		}
+	}
+
+
+	/**
+	 * Per-thread holder for resource bindings, synchronizations and
+	 * transaction characteristics. Resources are kept in parallel key/value
+	 * arrays since there are typically just a few of them bound at any time.
+	 */
+	private static final class SynchronizationState {
+
+		private static final Object[] EMPTY_ARRAY = new Object[0];
+
+		private Object[] resourceKeys = EMPTY_ARRAY;
+
+		private Object[] resourceValues = EMPTY_ARRAY;
+
+		private int resourceCount;
+
+		@Nullable
+		Set<TransactionSynchronization> synchronizations;
+
+		@Nullable
+		String currentTransactionName;
+
+		boolean currentTransactionReadOnly;
+
+		@Nullable
+		Integer currentTransactionIsolationLevel;
+
+		boolean actualTransactionActive;
+
+		@Nullable
+		private Map<Object, Object> resourceMap;
+
+		private int indexOf(Object key) {
+			for (int i = 0; i < this.resourceCount; i++) {
+				Object candidate = this.resourceKeys[i];
+				if (candidate == key || key.equals(candidate)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Nullable
+		Object getResource(Object key) {
+			int index = indexOf(key);
+			return (index != -1 ? this.resourceValues[index] : null);
+		}
+
+		@Nullable
+		Object putResource(Object key, Object value) {
+			int index = indexOf(key);
+			if (index != -1) {
+				Object oldValue = this.resourceValues[index];
+				this.resourceValues[index] = value;
+				return oldValue;
+			}
+			if (this.resourceCount == this.resourceKeys.length) {
+				int newLength = Math.max(4, this.resourceCount * 2);
+				this.resourceKeys = Arrays.copyOf(this.resourceKeys, newLength);
+				this.resourceValues = Arrays.copyOf(this.resourceValues, newLength);
+			}
+			this.resourceKeys[this.resourceCount] = key;
+			this.resourceValues[this.resourceCount] = value;
+			this.resourceCount++;
+			return null;
+		}
+
+		@Nullable
+		Object removeResource(Object key) {
+			int index = indexOf(key);
+			if (index == -1) {
+				return null;
+			}
+			Object oldValue = this.resourceValues[index];
+			int last = --this.resourceCount;
+			// Keep insertion order for the remaining bindings
+			System.arraycopy(this.resourceKeys, index + 1, this.resourceKeys, index, last - index);
+			System.arraycopy(this.resourceValues, index + 1, this.resourceValues, index, last - index);
+			this.resourceKeys[last] = null;
+			this.resourceValues[last] = null;
+			return oldValue;
+		}
+
+		Map<Object, Object> getResourceMap() {
+			if (this.resourceCount == 0) {
+				return Collections.emptyMap();
+			}
+			if (this.resourceMap == null) {
+				this.resourceMap = new ResourceMap(this);
+			}
+			return this.resourceMap;
+		}
+
+		boolean isEmpty() {
+			return (this.resourceCount == 0 && this.synchronizations == null &&
+					this.currentTransactionName == null && !this.currentTransactionReadOnly &&
+					this.currentTransactionIsolationLevel == null && !this.actualTransactionActive);
+		}
+	}
+
+
+	/**
+	 * Unmodifiable view of the resources held by a {@link SynchronizationState},
+	 * reflecting subsequent bindings and unbindings on the same thread.
+	 */
+	private static final class ResourceMap extends AbstractMap<Object, Object> {
+
+		private final SynchronizationState state;
+
+		ResourceMap(SynchronizationState state) {
+			this.state = state;
+		}
+
+		@Override
+		public int size() {
+			return this.state.resourceCount;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return (key != null && this.state.indexOf(key) != -1);
+		}
+
+		@Override
+		@Nullable
+		public Object get(Object key) {
+			return (key != null ? this.state.getResource(key) : null);
+		}
+
+		@Override
+		public Set<Entry<Object, Object>> entrySet() {
+			return new AbstractSet<Entry<Object, Object>>() {
+				@Override
+				public int size() {
+					return state.resourceCount;
+				}
+				@Override
+				public Iterator<Entry<Object, Object>> iterator() {
+					return new Iterator<Entry<Object, Object>>() {
+						private int index;
+						@Override
+						public boolean hasNext() {
+							return (this.index < state.resourceCount);
+						}
+						@Override
+						public Entry<Object, Object> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							int current = this.index++;
+							return new SimpleImmutableEntry<>(state.resourceKeys[current], state.resourceValues[current]);
+						}
+					};
+				}
+			};
+		}
 	}
 
 }
@@ -18,6 +18,7 @@ package org.springframework.transaction.interceptor;
 
 import java.io.Serializable;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +26,8 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.lang.Nullable;
+import org.springframework.tests.sample.beans.ITestBean;
+import org.springframework.tests.sample.beans.TestBean;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
@@ -34,6 +37,7 @@ import org.springframework.util.SerializationTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -262,6 +266,39 @@ public class TransactionInterceptorTests extends AbstractTransactionAspectTests
 		verify(beanFactory, times(1)).getBean(TransactionManager.class);
 	}
 
+	@Test
+	public void determineTransactionManagerInvokedPerCall() throws Exception {
+		TransactionAttribute txatt = new DefaultTransactionAttribute();
+		MapTransactionAttributeSource tas = new MapTransactionAttributeSource();
+		tas.register(getNameMethod, txatt);
+
+		TransactionStatus status1 = mock(TransactionStatus.class);
+		PlatformTransactionManager ptm1 = mock(PlatformTransactionManager.class);
+		given(ptm1.getTransaction(any())).willReturn(status1);
+		TransactionStatus status2 = mock(TransactionStatus.class);
+		PlatformTransactionManager ptm2 = mock(PlatformTransactionManager.class);
+		given(ptm2.getTransaction(any())).willReturn(status2);
+
+		AtomicInteger lookups = new AtomicInteger();
+		TransactionInterceptor ti = new TransactionInterceptor() {
+			@Override
+			protected TransactionManager determineTransactionManager(@Nullable TransactionAttribute txAttr) {
+				return (lookups.incrementAndGet() % 2 == 1 ? ptm1 : ptm2);
+			}
+		};
+		ti.setTransactionAttributeSource(tas);
+		ProxyFactory pf = new ProxyFactory(new TestBean());
+		pf.addAdvice(0, ti);
+		ITestBean itb = (ITestBean) pf.getProxy();
+
+		itb.getName();
+		itb.getName();
+		itb.getName();
+		assertThat(lookups.get()).isEqualTo(3);
+		verify(ptm1, times(2)).commit(status1);
+		verify(ptm2, times(1)).commit(status2);
+	}
+
 
 	private TransactionInterceptor createTransactionInterceptor(BeanFactory beanFactory,
 			String transactionManagerName, PlatformTransactionManager transactionManager) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * @author Philipp Kessler
+ */
+public class TransactionSynchronizationManagerTests {
+
+	@AfterEach
+	public void verifyCleared() {
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel()).isNull();
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+	}
+
+
+	@Test
+	public void bindAndUnbindMultipleResources() {
+		Object key1 = new Object();
+		Object key2 = new Object();
+		Object key3 = new Object();
+		for (int i = 0; i < 5; i++) {
+			TransactionSynchronizationManager.bindResource(key1 + "-" + i, "value" + i);
+		}
+		TransactionSynchronizationManager.bindResource(key1, "value1");
+		TransactionSynchronizationManager.bindResource(key2, "value2");
+		TransactionSynchronizationManager.bindResource(key3, "value3");
+
+		Map<Object, Object> resources = TransactionSynchronizationManager.getResourceMap();
+		assertThat(resources).hasSize(8);
+		assertThat(resources.get(key2)).isEqualTo("value2");
+		assertThatIllegalStateException().isThrownBy(() ->
+				TransactionSynchronizationManager.bindResource(key2, "other"));
+
+		assertThat(TransactionSynchronizationManager.unbindResource(key2)).isEqualTo("other");
+		assertThat(TransactionSynchronizationManager.hasResource(key2)).isFalse();
+		assertThat(TransactionSynchronizationManager.getResource(key1)).isEqualTo("value1");
+		assertThat(TransactionSynchronizationManager.getResource(key3)).isEqualTo("value3");
+		assertThat(TransactionSynchronizationManager.unbindResourceIfPossible(key2)).isNull();
+		assertThatIllegalStateException().isThrownBy(() ->
+				TransactionSynchronizationManager.unbindResource(key2));
+
+		TransactionSynchronizationManager.unbindResource(key1);
+		TransactionSynchronizationManager.unbindResource(key3);
+		for (int i = 0; i < 5; i++) {
+			assertThat(TransactionSynchronizationManager.unbindResource(key1 + "-" + i)).isEqualTo("value" + i);
+		}
+	}
+
+	@Test
+	public void resourceMapReflectsLaterBindings() {
+		TransactionSynchronizationManager.bindResource("key1", "value1");
+		Map<Object, Object> resources = TransactionSynchronizationManager.getResourceMap();
+		assertThat(resources).containsOnlyKeys("key1");
+
+		TransactionSynchronizationManager.bindResource("key2", "value2");
+		assertThat(resources).containsOnlyKeys("key1", "key2");
+		assertThat(resources.get("key2")).isEqualTo("value2");
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> resources.remove("key1"));
+
+		TransactionSynchronizationManager.unbindResource("key1");
+		assertThat(resources).containsOnlyKeys("key2");
+		TransactionSynchronizationManager.unbindResource("key2");
+	}
+
+	@Test
+	public void voidResourceHolderIsTransparentlyRemoved() {
+		ResourceHolderSupport holder = new ResourceHolderSupport() {};
+		TransactionSynchronizationManager.bindResource("key", holder);
+		assertThat(TransactionSynchronizationManager.getResource("key")).isSameAs(holder);
+
+		holder.unbound();
+		assertThat(TransactionSynchronizationManager.getResource("key")).isNull();
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+	}
+
+	@Test
+	public void transactionCharacteristics() {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setCurrentTransactionName("tx");
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(2);
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isTrue();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("tx");
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel()).isEqualTo(2);
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+
+		TransactionSynchronizationManager.clear();
+	}
+
+}
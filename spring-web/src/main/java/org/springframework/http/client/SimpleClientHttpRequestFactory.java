@@ -31,6 +31,17 @@ import org.springframework.util.Assert;
 /**
  * {@link ClientHttpRequestFactory} implementation that uses standard JDK facilities.
  *
+ * <p>Connections are reused through the keep-alive cache of
+ * {@link java.net.HttpURLConnection}, provided that responses are
+ * {@linkplain ClientHttpResponse#close() closed}, which drains any remaining
+ * content. The size of that cache is controlled by the JDK's
+ * {@code http.maxConnections} system property (5 per destination by default).
+ * For large request bodies, consider {@link #setBufferRequestBody turning off}
+ * request body buffering. For a configurable connection pool, use
+ * {@link HttpComponentsClientHttpRequestFactory} or
+ * {@link OkHttp3ClientHttpRequestFactory} instead; for HTTP/2, use
+ * {@link OkHttp3ClientHttpRequestFactory}.
+ *
  * @author Arjen Poutsma
  * @author Juergen Hoeller
  * @since 3.0
@@ -133,7 +133,10 @@ public class JettyClientHttpConnector implements ClientHttpConnector {
 		// used not only to release the buffer but also to request more data
 		// which is a problem for codecs that buffer data.
 
-		DataBuffer buffer = this.bufferFactory.allocateBuffer(chunk.buffer.capacity());
+		// Size the copy by the content actually received rather than by the
+		// capacity of the (typically pooled and much larger) Jetty buffer.
+
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(chunk.buffer.remaining());
 		buffer.write(chunk.buffer);
 		chunk.callback.succeeded();
 		return buffer;
@@ -25,6 +25,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
 
 /**
  * Abstract base class for listener-based server responses, e.g. Servlet 3.1
@@ -37,6 +38,8 @@ public abstract class AbstractListenerServerHttpResponse extends AbstractServerH
 
 	private final AtomicBoolean writeCalled = new AtomicBoolean();
 
+	private int maxDeferredFlushes;
+
 
 	public AbstractListenerServerHttpResponse(DataBufferFactory dataBufferFactory) {
 		super(dataBufferFactory);
@@ -47,6 +50,28 @@ public abstract class AbstractListenerServerHttpResponse extends AbstractServerH
 	}
 
 
+	/**
+	 * Set the maximum number of consecutive flushes to defer in
+	 * {@link #writeAndFlushWith} while the next nested Publisher is available
+	 * right away.
+	 * <p>By default this is set to 0, i.e. flush after each nested Publisher.
+	 * @since 5.2.3
+	 * @see AbstractListenerWriteFlushProcessor#setMaxDeferredFlushes(int)
+	 */
+	public void setMaxDeferredFlushes(int maxDeferredFlushes) {
+		Assert.isTrue(maxDeferredFlushes >= 0, "Max deferred flushes must not be negative");
+		this.maxDeferredFlushes = maxDeferredFlushes;
+	}
+
+	/**
+	 * Return the configured maximum number of deferred flushes.
+	 * @since 5.2.3
+	 */
+	public int getMaxDeferredFlushes() {
+		return this.maxDeferredFlushes;
+	}
+
+
 	@Override
 	protected final Mono<Void> writeWithInternal(Publisher<? extends DataBuffer> body) {
 		return writeAndFlushWithInternal(Mono.just(body));
@@ -58,6 +83,9 @@ public abstract class AbstractListenerServerHttpResponse extends AbstractServerH
 
 		if (this.writeCalled.compareAndSet(false, true)) {
 			Processor<? super Publisher<? extends DataBuffer>, Void> processor = createBodyFlushProcessor();
+			if (processor instanceof AbstractListenerWriteFlushProcessor) {
+				((AbstractListenerWriteFlushProcessor<?>) processor).setMaxDeferredFlushes(this.maxDeferredFlushes);
+			}
 			return Mono.from(subscriber -> {
 				body.subscribe(processor);
 				processor.subscribe(subscriber);
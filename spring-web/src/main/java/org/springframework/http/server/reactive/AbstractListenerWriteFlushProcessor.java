@@ -34,6 +34,10 @@ import org.springframework.util.Assert;
  * a {@code Publisher<Publisher<T>>} with flush boundaries enforces after
  * the completion of each nested Publisher.
  *
+ * <p>Flushes may optionally be {@linkplain #setMaxDeferredFlushes deferred}
+ * while the next nested Publisher is available right away, so that bursts of
+ * small Publishers, e.g. Server-Sent Events, are written with fewer flushes.
+ *
  * @author Arjen Poutsma
  * @author Violeta Georgieva
  * @author Rossen Stoyanchev
@@ -60,6 +64,12 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 
 	private volatile boolean subscriberCompleted;
 
+	private int maxDeferredFlushes;
+
+	private volatile int deferredFlushes;
+
+	private final AtomicReference<Publisher<? extends T>> pendingPublisher = new AtomicReference<>();
+
 	private final WriteResultPublisher resultPublisher;
 
 	private final String logPrefix;
@@ -87,6 +97,27 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 		return this.logPrefix;
 	}
 
+	/**
+	 * Set the maximum number of consecutive flush boundaries for which the
+	 * flush may be deferred, as long as the next nested Publisher is emitted
+	 * right away when requested. The flush is always performed once no further
+	 * Publisher is immediately available, and on completion.
+	 * <p>By default this is set to 0, i.e. flush after each nested Publisher.
+	 * @since 5.2.3
+	 */
+	public void setMaxDeferredFlushes(int maxDeferredFlushes) {
+		Assert.isTrue(maxDeferredFlushes >= 0, "Max deferred flushes must not be negative");
+		this.maxDeferredFlushes = maxDeferredFlushes;
+	}
+
+	/**
+	 * Return the configured maximum number of deferred flushes.
+	 * @since 5.2.3
+	 */
+	public int getMaxDeferredFlushes() {
+		return this.maxDeferredFlushes;
+	}
+
 
 	// Subscriber methods and async I/O notification methods...
 
@@ -205,6 +236,65 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 		return result;
 	}
 
+	/**
+	 * Flush, or defer the flush if the maximum number of deferred flushes has
+	 * not been reached yet.
+	 * @return {@code true} if the flush was deferred
+	 */
+	private boolean flushOrDefer() throws IOException {
+		if (this.deferredFlushes < this.maxDeferredFlushes) {
+			this.deferredFlushes++;
+			return true;
+		}
+		flushNow();
+		return false;
+	}
+
+	private void flushNow() throws IOException {
+		this.deferredFlushes = 0;
+		flush();
+	}
+
+	/**
+	 * Invoked after requesting the next Publisher for a deferred flush:
+	 * if no Publisher was emitted in the meantime, flush now.
+	 */
+	private void flushIfIdle() {
+		if (this.deferredFlushes == 0 || !changeState(State.REQUESTED, State.FLUSHING_IDLE)) {
+			return;
+		}
+		try {
+			flushNow();
+		}
+		catch (Throwable ex) {
+			flushingFailed(ex);
+			return;
+		}
+		if (changeState(State.FLUSHING_IDLE, State.REQUESTED)) {
+			Publisher<? extends T> publisher = this.pendingPublisher.getAndSet(null);
+			if (publisher != null) {
+				this.state.get().onNext(this, publisher);
+			}
+			else if (this.subscriberCompleted) {
+				handleSubscriberCompleted();
+			}
+		}
+	}
+
+	private void handleSubscriberCompleted() {
+		if (isFlushPending() || this.deferredFlushes > 0) {
+			// Ensure the final flush
+			changeState(State.REQUESTED, State.FLUSHING);
+			flushIfPossible();
+		}
+		else if (changeState(State.REQUESTED, State.COMPLETED)) {
+			this.resultPublisher.publishComplete();
+		}
+		else {
+			this.state.get().onComplete(this);
+		}
+	}
+
 	private void flushIfPossible() {
 		boolean result = isWritePossible();
 		if (rsWriteFlushLogger.isTraceEnabled()) {
@@ -220,16 +310,16 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 	 * Represents a state for the {@link Processor} to be in.
 	 *
 	 * <p><pre>
-	 *       UNSUBSCRIBED
-	 *            |
-	 *            v
-	 *        REQUESTED <---> RECEIVED ------+
-	 *            |              |           |
-	 *            |              v           |
-	 *            |           FLUSHING       |
-	 *            |              |           |
-	 *            |              v           |
-	 *            +--------> COMPLETED <-----+
+	 *                        UNSUBSCRIBED
+	 *                             |
+	 *                             v
+	 *   FLUSHING_IDLE <---> REQUESTED <---> RECEIVED ------+
+	 *                             |              |           |
+	 *                             |              v           |
+	 *                             |           FLUSHING       |
+	 *                             |              |           |
+	 *                             |              v           |
+	 *                             +--------> COMPLETED <-----+
 	 * </pre>
 	 */
 	private enum State {
@@ -272,7 +362,12 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 			}
 			@Override
 			public <T> void onComplete(AbstractListenerWriteFlushProcessor<T> processor) {
-				if (processor.changeState(this, COMPLETED)) {
+				if (processor.deferredFlushes > 0) {
+					// Completed while requesting the next Publisher after a deferred flush
+					processor.subscriberCompleted = true;
+					processor.handleSubscriberCompleted();
+				}
+				else if (processor.changeState(this, COMPLETED)) {
 					processor.resultPublisher.publishComplete();
 				}
 				else {
@@ -284,8 +379,9 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 		RECEIVED {
 			@Override
 			public <T> void writeComplete(AbstractListenerWriteFlushProcessor<T> processor) {
+				boolean deferred;
 				try {
-					processor.flush();
+					deferred = processor.flushOrDefer();
 				}
 				catch (Throwable ex) {
 					processor.flushingFailed(ex);
@@ -293,11 +389,14 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 				}
 				if (processor.changeState(this, REQUESTED)) {
 					if (processor.subscriberCompleted) {
-						handleSubscriberCompleted(processor);
+						processor.handleSubscriberCompleted();
 					}
 					else {
 						Assert.state(processor.subscription != null, "No subscription");
 						processor.subscription.request(1);
+						if (deferred) {
+							processor.flushIfIdle();
+						}
 					}
 				}
 			}
@@ -306,21 +405,34 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 				processor.subscriberCompleted = true;
 				// A competing write might have completed very quickly
 				if (processor.state.get().equals(State.REQUESTED)) {
-					handleSubscriberCompleted(processor);
+					processor.handleSubscriberCompleted();
 				}
 			}
+		},
 
-			private <T> void handleSubscriberCompleted(AbstractListenerWriteFlushProcessor<T> processor) {
-				if (processor.isFlushPending()) {
-					// Ensure the final flush
-					processor.changeState(State.REQUESTED, State.FLUSHING);
-					processor.flushIfPossible();
-				}
-				else if (processor.changeState(State.REQUESTED, State.COMPLETED)) {
-					processor.resultPublisher.publishComplete();
+		/**
+		 * Flushing after a deferred flush, when the next Publisher was not
+		 * emitted right away. A Publisher received in the meantime is held
+		 * until the flush is done.
+		 */
+		FLUSHING_IDLE {
+			@Override
+			public <T> void onNext(AbstractListenerWriteFlushProcessor<T> processor,
+					Publisher<? extends T> currentPublisher) {
+
+				processor.pendingPublisher.set(currentPublisher);
+				// The flush might have completed very quickly
+				if (!processor.state.get().equals(this) &&
+						processor.pendingPublisher.compareAndSet(currentPublisher, null)) {
+					processor.state.get().onNext(processor, currentPublisher);
 				}
-				else {
-					processor.state.get().onComplete(processor);
+			}
+			@Override
+			public <T> void onComplete(AbstractListenerWriteFlushProcessor<T> processor) {
+				processor.subscriberCompleted = true;
+				// The flush might have completed very quickly
+				if (processor.state.get().equals(State.REQUESTED)) {
+					processor.handleSubscriberCompleted();
 				}
 			}
 		},
@@ -329,7 +441,7 @@ public abstract class AbstractListenerWriteFlushProcessor<T> implements Processo
 			@Override
 			public <T> void onFlushPossible(AbstractListenerWriteFlushProcessor<T> processor) {
 				try {
-					processor.flush();
+					processor.flushNow();
 				}
 				catch (Throwable ex) {
 					processor.flushingFailed(ex);
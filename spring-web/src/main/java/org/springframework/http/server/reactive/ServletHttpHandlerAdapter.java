@@ -68,6 +68,8 @@ public class ServletHttpHandlerAdapter implements Servlet {
 
 	private int bufferSize = DEFAULT_BUFFER_SIZE;
 
+	private int maxDeferredFlushes;
+
 	@Nullable
 	private String servletPath;
 
@@ -96,6 +98,27 @@ public class ServletHttpHandlerAdapter implements Servlet {
 		return this.bufferSize;
 	}
 
+	/**
+	 * Set the maximum number of consecutive flushes to defer while writing
+	 * a response with flush boundaries, as long as the next boundary is
+	 * available right away, e.g. for bursts of Server-Sent Events.
+	 * <p>By default this is set to 0, i.e. flush after each boundary.
+	 * @since 5.2.3
+	 * @see AbstractListenerWriteFlushProcessor#setMaxDeferredFlushes(int)
+	 */
+	public void setMaxDeferredFlushes(int maxDeferredFlushes) {
+		Assert.isTrue(maxDeferredFlushes >= 0, "Max deferred flushes must not be negative");
+		this.maxDeferredFlushes = maxDeferredFlushes;
+	}
+
+	/**
+	 * Return the configured maximum number of deferred flushes.
+	 * @since 5.2.3
+	 */
+	public int getMaxDeferredFlushes() {
+		return this.maxDeferredFlushes;
+	}
+
 	/**
 	 * Return the Servlet path under which the Servlet is deployed by checking
 	 * the Servlet registration from {@link #init(ServletConfig)}.
@@ -179,7 +202,11 @@ public class ServletHttpHandlerAdapter implements Servlet {
 			return;
 		}
 
-		ServerHttpResponse httpResponse = createResponse(((HttpServletResponse) response), asyncContext, httpRequest);
+		ServletServerHttpResponse servletResponse =
+				createResponse(((HttpServletResponse) response), asyncContext, httpRequest);
+		servletResponse.setMaxDeferredFlushes(getMaxDeferredFlushes());
+
+		ServerHttpResponse httpResponse = servletResponse;
 		if (httpRequest.getMethod() == HttpMethod.HEAD) {
 			httpResponse = new HttpHeadResponseDecorator(httpResponse);
 		}
@@ -18,6 +18,7 @@ package org.springframework.http.server.reactive;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.List;
 
@@ -55,6 +56,9 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 
 	private final int bufferSize;
 
+	@Nullable
+	private byte[] writeBuffer;
+
 	@Nullable
 	private volatile ResponseBodyFlushProcessor bodyFlushProcessor;
 
@@ -170,13 +174,27 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 	 * Write the DataBuffer to the response body OutputStream.
 	 * Invoked only when {@link ServletOutputStream#isReady()} returns "true"
 	 * and the readable bytes in the DataBuffer is greater than 0.
+	 * <p>Buffers backed by an array are written in full with a single call,
+	 * other buffers are copied in chunks through a buffer that is re-used for
+	 * the lifetime of the response.
 	 * @return the number of bytes written
 	 */
 	protected int writeToOutputStream(DataBuffer dataBuffer) throws IOException {
 		ServletOutputStream outputStream = this.outputStream;
+		ByteBuffer byteBuffer = dataBuffer.asByteBuffer();
+		if (byteBuffer.hasArray()) {
+			// Write heap buffers straight from their backing array, without copying
+			int len = byteBuffer.remaining();
+			outputStream.write(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), len);
+			return len;
+		}
 		InputStream input = dataBuffer.asInputStream();
 		int bytesWritten = 0;
-		byte[] buffer = new byte[this.bufferSize];
+		byte[] buffer = this.writeBuffer;
+		if (buffer == null) {
+			buffer = new byte[this.bufferSize];
+			this.writeBuffer = buffer;
+		}
 		int bytesRead;
 		while (outputStream.isReady() && (bytesRead = input.read(buffer)) != -1) {
 			outputStream.write(buffer, 0, bytesRead);
@@ -47,6 +47,8 @@ public class UndertowHttpHandlerAdapter implements io.undertow.server.HttpHandle
 
 	private DataBufferFactory bufferFactory = new DefaultDataBufferFactory(false);
 
+	private int maxDeferredFlushes;
+
 
 	public UndertowHttpHandlerAdapter(HttpHandler httpHandler) {
 		Assert.notNull(httpHandler, "HttpHandler must not be null");
@@ -63,6 +65,27 @@ public class UndertowHttpHandlerAdapter implements io.undertow.server.HttpHandle
 		return this.bufferFactory;
 	}
 
+	/**
+	 * Set the maximum number of consecutive flushes to defer while writing
+	 * a response with flush boundaries, as long as the next boundary is
+	 * available right away, e.g. for bursts of Server-Sent Events.
+	 * <p>By default this is set to 0, i.e. flush after each boundary.
+	 * @since 5.2.3
+	 * @see AbstractListenerWriteFlushProcessor#setMaxDeferredFlushes(int)
+	 */
+	public void setMaxDeferredFlushes(int maxDeferredFlushes) {
+		Assert.isTrue(maxDeferredFlushes >= 0, "Max deferred flushes must not be negative");
+		this.maxDeferredFlushes = maxDeferredFlushes;
+	}
+
+	/**
+	 * Return the configured maximum number of deferred flushes.
+	 * @since 5.2.3
+	 */
+	public int getMaxDeferredFlushes() {
+		return this.maxDeferredFlushes;
+	}
+
 
 	@Override
 	public void handleRequest(HttpServerExchange exchange) {
@@ -77,7 +100,11 @@ public class UndertowHttpHandlerAdapter implements io.undertow.server.HttpHandle
 			exchange.setStatusCode(400);
 			return;
 		}
-		ServerHttpResponse response = new UndertowServerHttpResponse(exchange, getDataBufferFactory(), request);
+		UndertowServerHttpResponse undertowResponse =
+				new UndertowServerHttpResponse(exchange, getDataBufferFactory(), request);
+		undertowResponse.setMaxDeferredFlushes(getMaxDeferredFlushes());
+
+		ServerHttpResponse response = undertowResponse;
 
 		if (request.getMethod() == HttpMethod.HEAD) {
 			response = new HttpHeadResponseDecorator(response);
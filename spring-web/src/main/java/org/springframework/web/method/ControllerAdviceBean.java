@@ -44,6 +44,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
  * @author Brian Clozel
  * @author Juergen Hoeller
  * @author Sam Brannen
+ * @author Philipp Kessler
  * @since 3.2
  */
 public class ControllerAdviceBean implements Ordered {
@@ -188,6 +189,15 @@ public class ControllerAdviceBean implements Ordered {
 		return this.beanType;
 	}
 
+	/**
+	 * Return whether the contained bean is a singleton, i.e. whether
+	 * {@link #resolveBean()} returns the same instance for every call.
+	 * @since 5.2.3
+	 */
+	public boolean isSingleton() {
+		return this.isSingleton;
+	}
+
 	/**
 	 * Get the bean instance for this {@code ControllerAdviceBean}, if necessary
 	 * resolving the bean name through the {@link BeanFactory}.
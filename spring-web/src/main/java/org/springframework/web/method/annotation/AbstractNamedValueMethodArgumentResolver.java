@@ -99,7 +99,8 @@ public abstract class AbstractNamedValueMethodArgumentResolver implements Handle
 		NamedValueInfo namedValueInfo = getNamedValueInfo(parameter);
 		MethodParameter nestedParameter = parameter.nestedIfOptional();
 
-		Object resolvedName = resolveStringValue(namedValueInfo.name);
+		Object resolvedName = (namedValueInfo.literalName ?
+				namedValueInfo.name : resolveStringValue(namedValueInfo.name));
 		if (resolvedName == null) {
 			throw new IllegalArgumentException(
 					"Specified name must not resolve to null: [" + namedValueInfo.name + "]");
@@ -108,7 +109,7 @@ public abstract class AbstractNamedValueMethodArgumentResolver implements Handle
 		Object arg = resolveName(resolvedName.toString(), nestedParameter, webRequest);
 		if (arg == null) {
 			if (namedValueInfo.defaultValue != null) {
-				arg = resolveStringValue(namedValueInfo.defaultValue);
+				arg = resolveDefaultValue(namedValueInfo);
 			}
 			else if (namedValueInfo.required && !nestedParameter.isOptional()) {
 				handleMissingValue(namedValueInfo.name, nestedParameter, webRequest);
@@ -116,7 +117,7 @@ public abstract class AbstractNamedValueMethodArgumentResolver implements Handle
 			arg = handleNullValue(namedValueInfo.name, arg, nestedParameter.getNestedParameterType());
 		}
 		else if ("".equals(arg) && namedValueInfo.defaultValue != null) {
-			arg = resolveStringValue(namedValueInfo.defaultValue);
+			arg = resolveDefaultValue(namedValueInfo);
 		}
 
 		if (binderFactory != null) {
@@ -174,7 +175,40 @@ public abstract class AbstractNamedValueMethodArgumentResolver implements Handle
 			}
 		}
 		String defaultValue = (ValueConstants.DEFAULT_NONE.equals(info.defaultValue) ? null : info.defaultValue);
-		return new NamedValueInfo(name, info.required, defaultValue);
+		return new NamedValueInfo(name, info.required, defaultValue,
+				isLiteral(name), (defaultValue != null && isLiteral(defaultValue)));
+	}
+
+	/**
+	 * Whether the given annotation-specified value resolves to itself, i.e. it
+	 * contains no placeholders or expressions and does not need to be resolved
+	 * again for every request.
+	 */
+	private boolean isLiteral(String value) {
+		if (this.configurableBeanFactory == null) {
+			return true;
+		}
+		if (value.contains("${") || value.contains("#{")) {
+			return false;
+		}
+		try {
+			return value.equals(resolveStringValue(value));
+		}
+		catch (RuntimeException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Resolve the default value of the given named value, unless it is a literal.
+	 */
+	@Nullable
+	private Object resolveDefaultValue(NamedValueInfo namedValueInfo) {
+		String defaultValue = namedValueInfo.defaultValue;
+		if (defaultValue == null || namedValueInfo.literalDefaultValue) {
+			return defaultValue;
+		}
+		return resolveStringValue(defaultValue);
 	}
 
 	/**
@@ -275,10 +309,22 @@ public abstract class AbstractNamedValueMethodArgumentResolver implements Handle
 		@Nullable
 		private final String defaultValue;
 
+		private final boolean literalName;
+
+		private final boolean literalDefaultValue;
+
 		public NamedValueInfo(String name, boolean required, @Nullable String defaultValue) {
+			this(name, required, defaultValue, false, false);
+		}
+
+		private NamedValueInfo(String name, boolean required, @Nullable String defaultValue,
+				boolean literalName, boolean literalDefaultValue) {
+
 			this.name = name;
 			this.required = required;
 			this.defaultValue = defaultValue;
+			this.literalName = literalName;
+			this.literalDefaultValue = literalDefaultValue;
 		}
 	}
 
@@ -30,6 +30,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -56,6 +57,12 @@ public class UrlPathHelper {
 	 */
 	private static final String WEBSPHERE_URI_ATTRIBUTE = "com.ibm.websphere.servlet.uri_non_decoded";
 
+	/**
+	 * Request attribute that holds the lookup path resolved through
+	 * {@link #resolveAndCacheLookupPath}, along with the state it was resolved for.
+	 */
+	private static final String CACHED_LOOKUP_PATH_ATTRIBUTE = UrlPathHelper.class.getName() + ".cachedLookupPath";
+
 	private static final Log logger = LogFactory.getLog(UrlPathHelper.class);
 
 	@Nullable
@@ -178,6 +185,34 @@ public class UrlPathHelper {
 		}
 	}
 
+	/**
+	 * Variant of {@link #getLookupPathForRequest(HttpServletRequest)} that
+	 * caches the resolved lookup path in a request attribute, so that it is
+	 * decoded and sanitized only once per request rather than once per handler
+	 * mapping, interceptor or CORS configuration source.
+	 * <p>A cached lookup path is re-used by any {@code UrlPathHelper} with the
+	 * same settings, as long as the request URI, context path, servlet path,
+	 * path info, character encoding and include attributes are unchanged,
+	 * e.g. it is re-resolved after a forward or within an include. Subclasses
+	 * are assumed to resolve lookup paths differently and always resolve the
+	 * lookup path without caching it.
+	 * @param request current HTTP request
+	 * @return the lookup path
+	 * @since 5.2.3
+	 */
+	public String resolveAndCacheLookupPath(HttpServletRequest request) {
+		if (getClass() != UrlPathHelper.class) {
+			return getLookupPathForRequest(request);
+		}
+		Object cached = request.getAttribute(CACHED_LOOKUP_PATH_ATTRIBUTE);
+		if (cached instanceof CachedLookupPath && ((CachedLookupPath) cached).isValidFor(this, request)) {
+			return ((CachedLookupPath) cached).lookupPath;
+		}
+		String lookupPath = getLookupPathForRequest(request);
+		request.setAttribute(CACHED_LOOKUP_PATH_ATTRIBUTE, new CachedLookupPath(this, request, lookupPath));
+		return lookupPath;
+	}
+
 	/**
 	 * Variant of {@link #getLookupPathForRequest(HttpServletRequest)} that
 	 * automates checking for a previously computed lookupPath saved as a
@@ -195,7 +230,7 @@ public class UrlPathHelper {
 				return result;
 			}
 		}
-		return getLookupPathForRequest(request);
+		return resolveAndCacheLookupPath(request);
 	}
 
 	/**
@@ -626,4 +661,77 @@ public class UrlPathHelper {
 		return !flagToUse;
 	}
 
+
+	/**
+	 * Lookup path resolved for a request, along with the request state and
+	 * {@code UrlPathHelper} settings it was resolved with.
+	 */
+	private static final class CachedLookupPath {
+
+		private final boolean alwaysUseFullPath;
+
+		private final boolean urlDecode;
+
+		private final boolean removeSemicolonContent;
+
+		private final String defaultEncoding;
+
+		private final String requestUri;
+
+		private final String contextPath;
+
+		private final String servletPath;
+
+		@Nullable
+		private final String pathInfo;
+
+		@Nullable
+		private final String characterEncoding;
+
+		@Nullable
+		private final Object includeRequestUri;
+
+		@Nullable
+		private final Object includeContextPath;
+
+		@Nullable
+		private final Object includeServletPath;
+
+		final String lookupPath;
+
+		CachedLookupPath(UrlPathHelper helper, HttpServletRequest request, String lookupPath) {
+			this.alwaysUseFullPath = helper.alwaysUseFullPath;
+			this.urlDecode = helper.urlDecode;
+			this.removeSemicolonContent = helper.removeSemicolonContent;
+			this.defaultEncoding = helper.defaultEncoding;
+			this.requestUri = request.getRequestURI();
+			this.contextPath = request.getContextPath();
+			this.servletPath = request.getServletPath();
+			this.pathInfo = request.getPathInfo();
+			this.characterEncoding = request.getCharacterEncoding();
+			this.includeRequestUri = request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE);
+			this.includeContextPath = request.getAttribute(WebUtils.INCLUDE_CONTEXT_PATH_ATTRIBUTE);
+			this.includeServletPath = request.getAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE);
+			this.lookupPath = lookupPath;
+		}
+
+		boolean isValidFor(UrlPathHelper helper, HttpServletRequest request) {
+			return (this.alwaysUseFullPath == helper.alwaysUseFullPath &&
+					this.urlDecode == helper.urlDecode &&
+					this.removeSemicolonContent == helper.removeSemicolonContent &&
+					this.defaultEncoding.equals(helper.defaultEncoding) &&
+					ObjectUtils.nullSafeEquals(this.requestUri, request.getRequestURI()) &&
+					ObjectUtils.nullSafeEquals(this.contextPath, request.getContextPath()) &&
+					ObjectUtils.nullSafeEquals(this.servletPath, request.getServletPath()) &&
+					ObjectUtils.nullSafeEquals(this.pathInfo, request.getPathInfo()) &&
+					ObjectUtils.nullSafeEquals(this.characterEncoding, request.getCharacterEncoding()) &&
+					ObjectUtils.nullSafeEquals(this.includeRequestUri,
+							request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE)) &&
+					ObjectUtils.nullSafeEquals(this.includeContextPath,
+							request.getAttribute(WebUtils.INCLUDE_CONTEXT_PATH_ATTRIBUTE)) &&
+					ObjectUtils.nullSafeEquals(this.includeServletPath,
+							request.getAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE)));
+		}
+	}
+
 }
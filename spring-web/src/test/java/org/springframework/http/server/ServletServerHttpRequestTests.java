@@ -151,6 +151,43 @@ public class ServletServerHttpRequestTests {
 		assertThat(headers.getContentType()).isNull();
 	}
 
+	@Test
+	public void getHeadersWithContentLengthFromServletRequest() {
+		mockRequest.setContent(new byte[] {'a', 'b', 'c'});
+
+		HttpHeaders headers = request.getHeaders();
+		assertThat(headers.getContentLength()).isEqualTo(3);
+		assertThat(headers.keySet()).contains(HttpHeaders.CONTENT_LENGTH);
+	}
+
+	@Test
+	public void modifyHeaders() {
+		mockRequest.addHeader("MyHeader", "value1");
+
+		HttpHeaders headers = request.getHeaders();
+		assertThat(headers.getFirst("myheader")).isEqualTo("value1");
+		headers.add("MyHeader", "value2");
+		headers.set("Other", "value3");
+
+		assertThat(headers.get("myheader")).containsExactly("value1", "value2");
+		assertThat(headers.getFirst("Other")).isEqualTo("value3");
+		assertThat(mockRequest.getHeader("Other")).isNull();
+	}
+
+	@Test
+	public void getHeadersAfterServletRequestChanged() {
+		mockRequest.addHeader(HttpHeaders.AUTHORIZATION, "Basic abc");
+
+		HttpHeaders headers = request.getHeaders();
+		mockRequest.removeHeader(HttpHeaders.AUTHORIZATION);
+		mockRequest.addHeader(HttpHeaders.AUTHORIZATION, "Basic xyz");
+		mockRequest.addHeader(HttpHeaders.COOKIE, "session=xyz");
+
+		assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Basic abc");
+		assertThat(headers.get(HttpHeaders.AUTHORIZATION)).containsExactly("Basic abc");
+		assertThat(headers.containsKey(HttpHeaders.COOKIE)).isFalse();
+	}
+
 	@Test
 	public void getBody() throws IOException {
 		byte[] content = "Hello World".getBytes("UTF-8");
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.server.reactive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Processor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Philipp Kessler
+ */
+public class ListenerWriteFlushProcessorTests {
+
+	private final List<String> output = new ArrayList<>();
+
+	private final TestListenerWriteFlushProcessor processor = new TestListenerWriteFlushProcessor();
+
+	private final TestResultSubscriber resultSubscriber = new TestResultSubscriber();
+
+	private final TestSubscription subscription = new TestSubscription();
+
+
+	@BeforeEach
+	public void setup() {
+		this.processor.subscribe(this.resultSubscriber);
+	}
+
+
+	@Test
+	public void flushAfterEachPublisher() {
+		this.processor.onSubscribe(this.subscription);
+		this.subscription.emit("a", "b", "c");
+		this.subscription.complete();
+
+		assertThat(this.output).containsExactly("a", "flush", "b", "flush", "c", "flush");
+		assertThat(this.resultSubscriber.isCompleted()).isTrue();
+	}
+
+	@Test
+	public void deferFlushWhileNextPublisherAvailable() {
+		this.processor.setMaxDeferredFlushes(10);
+		this.processor.onSubscribe(this.subscription);
+		this.subscription.emit("a", "b", "c");
+		this.subscription.complete();
+
+		assertThat(this.output).containsExactly("a", "b", "c", "flush");
+		assertThat(this.resultSubscriber.isCompleted()).isTrue();
+	}
+
+	@Test
+	public void deferredFlushOnCompletion() {
+		this.processor.setMaxDeferredFlushes(10);
+		this.processor.onSubscribe(this.subscription);
+		this.subscription.emitAndComplete("a", "b");
+
+		assertThat(this.output).containsExactly("a", "b", "flush");
+		assertThat(this.resultSubscriber.isCompleted()).isTrue();
+	}
+
+	@Test
+	public void deferFlushUpToMaxDeferredFlushes() {
+		this.processor.setMaxDeferredFlushes(1);
+		this.processor.onSubscribe(this.subscription);
+		this.subscription.emit("a", "b", "c");
+		this.subscription.complete();
+
+		assertThat(this.output).containsExactly("a", "b", "flush", "c", "flush");
+		assertThat(this.resultSubscriber.isCompleted()).isTrue();
+	}
+
+	@Test
+	public void flushWhenNextPublisherNotAvailable() {
+		this.processor.setMaxDeferredFlushes(10);
+		this.processor.onSubscribe(this.subscription);
+		this.subscription.emit("a");
+
+		assertThat(this.output).containsExactly("a", "flush");
+		assertThat(this.subscription.getDemand()).isEqualTo(1);
+
+		this.subscription.emit("b");
+		this.subscription.complete();
+
+		assertThat(this.output).containsExactly("a", "flush", "b", "flush");
+		assertThat(this.resultSubscriber.isCompleted()).isTrue();
+	}
+
+	@Test
+	public void publisherReceivedWhileFlushing() {
+		this.processor.setMaxDeferredFlushes(10);
+		this.processor.setOnFlush(() -> this.subscription.emit("b"));
+		this.processor.onSubscribe(this.subscription);
+		this.subscription.emit("a");
+		this.subscription.complete();
+
+		assertThat(this.output).containsExactly("a", "flush", "b", "flush");
+		assertThat(this.resultSubscriber.isCompleted()).isTrue();
+	}
+
+
+	private class TestListenerWriteFlushProcessor extends AbstractListenerWriteFlushProcessor<String> {
+
+		@Nullable
+		private Runnable onFlush;
+
+		public void setOnFlush(Runnable onFlush) {
+			this.onFlush = onFlush;
+		}
+
+		@Override
+		protected Processor<? super String, Void> createWriteProcessor() {
+			return new TestWriteProcessor();
+		}
+
+		@Override
+		protected boolean isWritePossible() {
+			return true;
+		}
+
+		@Override
+		protected void flush() {
+			output.add("flush");
+			Runnable onFlush = this.onFlush;
+			this.onFlush = null;
+			if (onFlush != null) {
+				onFlush.run();
+			}
+		}
+
+		@Override
+		protected boolean isFlushPending() {
+			return false;
+		}
+	}
+
+
+	/**
+	 * Writes each item to the output, and completes as soon as the current
+	 * Publisher completes.
+	 */
+	private class TestWriteProcessor implements Processor<String, Void> {
+
+		private Subscriber<? super Void> subscriber;
+
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			subscription.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(String item) {
+			output.add(item);
+		}
+
+		@Override
+		public void onError(Throwable ex) {
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+			if (this.subscriber != null) {
+				this.subscriber.onComplete();
+			}
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super Void> subscriber) {
+			this.subscriber = subscriber;
+			subscriber.onSubscribe(mock(Subscription.class));
+			if (this.completed) {
+				subscriber.onComplete();
+			}
+		}
+	}
+
+
+	/**
+	 * Upstream of nested single item Publishers, emitted synchronously on
+	 * demand if already available.
+	 */
+	private class TestSubscription implements Subscription {
+
+		private final List<String> items = new ArrayList<>();
+
+		private boolean completed;
+
+		private long demand;
+
+		public long getDemand() {
+			return this.demand;
+		}
+
+		public void emit(String... items) {
+			this.items.addAll(Arrays.asList(items));
+			drain();
+		}
+
+		public void emitAndComplete(String... items) {
+			this.items.addAll(Arrays.asList(items));
+			complete();
+		}
+
+		public void complete() {
+			this.completed = true;
+			drain();
+		}
+
+		@Override
+		public void request(long n) {
+			this.demand += n;
+			drain();
+		}
+
+		private void drain() {
+			while (this.demand > 0 && !this.items.isEmpty()) {
+				this.demand--;
+				processor.onNext(singleItemPublisher(this.items.remove(0)));
+			}
+			if (this.items.isEmpty() && this.completed) {
+				processor.onComplete();
+			}
+		}
+
+		@Override
+		public void cancel() {
+		}
+	}
+
+	private static Publisher<String> singleItemPublisher(String item) {
+		return subscriber -> subscriber.onSubscribe(new Subscription() {
+			private boolean done;
+			@Override
+			public void request(long n) {
+				if (!this.done) {
+					this.done = true;
+					subscriber.onNext(item);
+					subscriber.onComplete();
+				}
+			}
+			@Override
+			public void cancel() {
+			}
+		});
+	}
+
+
+	private static class TestResultSubscriber implements Subscriber<Void> {
+
+		private boolean completed;
+
+		public boolean isCompleted() {
+			return this.completed;
+		}
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+		}
+
+		@Override
+		public void onNext(Void aVoid) {
+		}
+
+		@Override
+		public void onError(Throwable ex) {
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+
+}
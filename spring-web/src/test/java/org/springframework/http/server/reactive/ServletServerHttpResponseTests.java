@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.server.reactive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.mock.web.test.MockAsyncContext;
+import org.springframework.mock.web.test.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Philipp Kessler
+ */
+public class ServletServerHttpResponseTests {
+
+	private final TestServletOutputStream outputStream = new TestServletOutputStream();
+
+
+	@Test
+	public void writeSlicedHeapBuffer() throws IOException {
+		DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+		ServletServerHttpResponse response = createResponse(bufferFactory, 4);
+
+		DataBuffer buffer = bufferFactory.wrap("xxabcdefghijyy".getBytes(StandardCharsets.UTF_8));
+		DataBuffer slice = buffer.slice(1, 12);
+		slice.read();
+		assertThat(slice.asByteBuffer().arrayOffset()).isEqualTo(2);
+
+		assertThat(response.writeToOutputStream(slice)).isEqualTo(11);
+		assertThat(this.outputStream.getContentAsString()).isEqualTo("abcdefghijy");
+		assertThat(this.outputStream.writes).hasSize(1);
+	}
+
+	@Test
+	public void writeDirectBufferWhileReady() throws IOException {
+		DataBufferFactory bufferFactory = new DefaultDataBufferFactory(true);
+		ServletServerHttpResponse response = createResponse(bufferFactory, 4);
+
+		DataBuffer buffer = bufferFactory.allocateBuffer(16);
+		buffer.write("abcdefghij".getBytes(StandardCharsets.UTF_8));
+		assertThat(buffer.asByteBuffer().hasArray()).isFalse();
+
+		this.outputStream.setReadyCount(2);
+		assertThat(response.writeToOutputStream(buffer)).isEqualTo(8);
+		assertThat(this.outputStream.getContentAsString()).isEqualTo("abcdefgh");
+		assertThat(buffer.readableByteCount()).isEqualTo(2);
+
+		this.outputStream.setReadyCount(Integer.MAX_VALUE);
+		assertThat(response.writeToOutputStream(buffer)).isEqualTo(2);
+		assertThat(this.outputStream.getContentAsString()).isEqualTo("abcdefghij");
+
+		// Same write buffer re-used for every chunk
+		assertThat(this.outputStream.writes).hasSize(3);
+		assertThat(this.outputStream.writes.get(0).length).isEqualTo(4);
+		assertThat(this.outputStream.writes.get(1)).isSameAs(this.outputStream.writes.get(0));
+		assertThat(this.outputStream.writes.get(2)).isSameAs(this.outputStream.writes.get(0));
+	}
+
+
+	private ServletServerHttpResponse createResponse(DataBufferFactory bufferFactory, int bufferSize)
+			throws IOException {
+
+		HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+		given(servletResponse.getOutputStream()).willReturn(this.outputStream);
+		MockAsyncContext asyncContext = new MockAsyncContext(new MockHttpServletRequest(), servletResponse);
+		return new ServletServerHttpResponse(servletResponse, asyncContext, bufferFactory, bufferSize,
+				mock(ServletServerHttpRequest.class));
+	}
+
+
+	private static class TestServletOutputStream extends ServletOutputStream {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		private final List<byte[]> writes = new ArrayList<>();
+
+		private int readyCount = Integer.MAX_VALUE;
+
+		public void setReadyCount(int readyCount) {
+			this.readyCount = readyCount;
+		}
+
+		public String getContentAsString() {
+			return new String(this.content.toByteArray(), StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public boolean isReady() {
+			return (this.readyCount-- > 0);
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+		}
+
+		@Override
+		public void write(int b) {
+			this.content.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			this.writes.add(b);
+			this.content.write(b, off, len);
+		}
+	}
+
+}
@@ -69,6 +69,24 @@ public class HeaderContentNegotiationStrategyTests {
 		assertThat(mediaTypes.get(3).toString()).isEqualTo("text/plain;q=0.5");
 	}
 
+	@Test
+	public void resolveMediaTypesCachedPerHeaderValue() throws Exception {
+		this.servletRequest.addHeader("Accept", "application/json, text/plain; q=0.5");
+		List<MediaType> mediaTypes = this.strategy.resolveMediaTypes(this.webRequest);
+
+		MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+		otherRequest.addHeader("Accept", "application/json, text/plain; q=0.5");
+		assertThat(this.strategy.resolveMediaTypes(new ServletWebRequest(otherRequest))).isSameAs(mediaTypes);
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(mediaTypes::clear);
+	}
+
+	@Test
+	public void resolveMediaTypesForAll() throws Exception {
+		this.servletRequest.addHeader("Accept", "*/*");
+		assertThat(this.strategy.resolveMediaTypes(this.webRequest))
+				.isSameAs(ContentNegotiationStrategy.MEDIA_TYPE_ALL_LIST);
+	}
+
 	@Test
 	public void resolveMediaTypesParseError() throws Exception {
 		this.servletRequest.addHeader("Accept", "textplain; q=0.5");
@@ -22,6 +22,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -192,6 +193,34 @@ class RequestHeaderMethodArgumentResolverTests {
 		assertThat(result).isEqualTo("/bar");
 	}
 
+	@Test
+	void resolveDefaultValueFromRequestForEachRequest() throws Exception {
+		servletRequest.setContextPath("/bar");
+		assertThat(resolver.resolveArgument(paramContextPath, null, webRequest, null)).isEqualTo("/bar");
+
+		servletRequest.setContextPath("/baz");
+		assertThat(resolver.resolveArgument(paramContextPath, null, webRequest, null)).isEqualTo("/baz");
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void resolveLiteralNameAndDefaultValueOnlyOnce() throws Exception {
+		GenericWebApplicationContext context = new GenericWebApplicationContext();
+		context.refresh();
+		AtomicInteger resolutions = new AtomicInteger();
+		context.getBeanFactory().addEmbeddedValueResolver(value -> {
+			resolutions.incrementAndGet();
+			return value;
+		});
+		resolver = new RequestHeaderMethodArgumentResolver(context.getBeanFactory());
+
+		assertThat(resolver.resolveArgument(paramNamedDefaultValueStringHeader, null, webRequest, null)).isEqualTo("bar");
+		int resolutionsAfterFirstRequest = resolutions.get();
+		assertThat(resolver.resolveArgument(paramNamedDefaultValueStringHeader, null, webRequest, null)).isEqualTo("bar");
+		assertThat(resolver.resolveArgument(paramNamedDefaultValueStringHeader, null, webRequest, null)).isEqualTo("bar");
+		assertThat(resolutions.get()).isEqualTo(resolutionsAfterFirstRequest);
+	}
+
 	@Test
 	void notFound() throws Exception {
 		assertThatExceptionOfType(ServletRequestBindingException.class).isThrownBy(() ->
@@ -84,6 +84,46 @@ public class UrlPathHelperTests {
 		assertThat(helper.getLookupPathForRequest(request)).as("Incorrect path returned").isEqualTo("/main/welcome.html");
 	}
 
+	@Test
+	public void resolveAndCacheLookupPath() {
+		request.setContextPath("/petclinic");
+		request.setServletPath("/main");
+		request.setRequestURI("/petclinic/main/welcome.html");
+
+		String lookupPath = helper.resolveAndCacheLookupPath(request);
+		assertThat(lookupPath).isEqualTo("/welcome.html");
+		assertThat(new UrlPathHelper().resolveAndCacheLookupPath(request)).isSameAs(lookupPath);
+		assertThat(new UrlPathHelper().getLookupPathForRequest(request, null)).isSameAs(lookupPath);
+	}
+
+	@Test
+	public void resolveAndCacheLookupPathAfterRequestChange() {
+		request.setContextPath("/petclinic");
+		request.setServletPath("/main");
+		request.setRequestURI("/petclinic/main/welcome.html");
+		assertThat(helper.resolveAndCacheLookupPath(request)).isEqualTo("/welcome.html");
+
+		request.setServletPath("/other");
+		request.setRequestURI("/petclinic/other/owners.html");
+		assertThat(helper.resolveAndCacheLookupPath(request)).isEqualTo("/owners.html");
+
+		request.setAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE, "/petclinic/other/include.html");
+		assertThat(helper.resolveAndCacheLookupPath(request)).isEqualTo("/include.html");
+	}
+
+	@Test
+	public void resolveAndCacheLookupPathWithDifferentSettings() {
+		request.setContextPath("/petclinic");
+		request.setServletPath("/main");
+		request.setRequestURI("/petclinic/main/welcome.html");
+		assertThat(helper.resolveAndCacheLookupPath(request)).isEqualTo("/welcome.html");
+
+		UrlPathHelper fullPathHelper = new UrlPathHelper();
+		fullPathHelper.setAlwaysUseFullPath(true);
+		assertThat(fullPathHelper.resolveAndCacheLookupPath(request)).isEqualTo("/main/welcome.html");
+		assertThat(helper.resolveAndCacheLookupPath(request)).isEqualTo("/welcome.html");
+	}
+
 	// SPR-11101
 
 	@Test
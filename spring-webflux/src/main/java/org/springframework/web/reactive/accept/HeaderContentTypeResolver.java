@@ -16,11 +16,15 @@
 
 package org.springframework.web.reactive.accept;
 
+import java.util.Collections;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.StringUtils;
 import org.springframework.web.server.NotAcceptableStatusException;
 import org.springframework.web.server.ServerWebExchange;
 
@@ -32,18 +36,41 @@ import org.springframework.web.server.ServerWebExchange;
  */
 public class HeaderContentTypeResolver implements RequestedContentTypeResolver {
 
+	private static final ConcurrentLruCache<String, List<MediaType>> mediaTypesCache =
+			new ConcurrentLruCache<>(64, HeaderContentTypeResolver::parseMediaTypes);
+
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The sorted media types are cached per 'Accept' header value and
+	 * returned as an unmodifiable list.
+	 */
 	@Override
 	public List<MediaType> resolveMediaTypes(ServerWebExchange exchange) throws NotAcceptableStatusException {
+		List<String> headerValues = exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT);
+		if (CollectionUtils.isEmpty(headerValues)) {
+			return MEDIA_TYPE_ALL_LIST;
+		}
+
+		String headerValue = (headerValues.size() == 1 ? headerValues.get(0) :
+				StringUtils.collectionToCommaDelimitedString(headerValues));
+		if (MediaType.ALL_VALUE.equals(headerValue)) {
+			return MEDIA_TYPE_ALL_LIST;
+		}
 		try {
-			List<MediaType> mediaTypes = exchange.getRequest().getHeaders().getAccept();
-			MediaType.sortBySpecificityAndQuality(mediaTypes);
-			return (!CollectionUtils.isEmpty(mediaTypes) ? mediaTypes : MEDIA_TYPE_ALL_LIST);
+			return mediaTypesCache.get(headerValue);
 		}
 		catch (InvalidMediaTypeException ex) {
-			String value = exchange.getRequest().getHeaders().getFirst("Accept");
 			throw new NotAcceptableStatusException(
-					"Could not parse 'Accept' header [" + value + "]: " + ex.getMessage());
+					"Could not parse 'Accept' header [" + headerValues.get(0) + "]: " + ex.getMessage());
 		}
 	}
 
+	private static List<MediaType> parseMediaTypes(String headerValue) {
+		List<MediaType> mediaTypes = MediaType.parseMediaTypes(headerValue);
+		MediaType.sortBySpecificityAndQuality(mediaTypes);
+		return (!mediaTypes.isEmpty() && !mediaTypes.equals(MEDIA_TYPE_ALL_LIST) ?
+				Collections.unmodifiableList(mediaTypes) : MEDIA_TYPE_ALL_LIST);
+	}
+
 }
@@ -16,6 +16,9 @@
 
 package org.springframework.web.reactive.resource;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,8 +30,13 @@ import reactor.core.publisher.Mono;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 
@@ -36,6 +44,11 @@ import org.springframework.web.server.ServerWebExchange;
  * A {@link ResourceResolver} that resolves resources from a {@link Cache} or
  * otherwise delegates to the resolver chain and caches the result.
  *
+ * <p>Optionally, the content of small resources can be held in the cache as
+ * well, see {@link #setMaxCachedContentLength}. Such resources are then served
+ * from memory, without file system access for their content, length, and
+ * last-modified timestamp.
+ *
  * @author Rossen Stoyanchev
  * @author Brian Clozel
  * @since 5.0
@@ -52,11 +65,15 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 	 */
 	public static final String RESOLVED_URL_PATH_CACHE_KEY_PREFIX = "resolvedUrlPath:";
 
+	private static final DataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+
 
 	private final Cache cache;
 
 	private final List<String> contentCodings = new ArrayList<>(EncodedResourceResolver.DEFAULT_CODINGS);
 
+	private long maxCachedContentLength = -1;
+
 
 	public CachingResourceResolver(Cache cache) {
 		Assert.notNull(cache, "Cache is required");
@@ -103,6 +120,30 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 		return Collections.unmodifiableList(this.contentCodings);
 	}
 
+	/**
+	 * Set the maximum length of resources, in bytes, whose content is to be
+	 * loaded into memory and cached along with the resolved resource.
+	 * <p>By default this is set to -1, i.e. only the resolved resource is cached
+	 * and its content is read on every request. Note that cached content is not
+	 * refreshed when the underlying file changes, so this is meant for assets
+	 * which remain unchanged while the application is running. Also, consider
+	 * a size-bounded {@link Cache} implementation (e.g. with LRU eviction) to
+	 * limit the overall amount of memory in use.
+	 * @param maxCachedContentLength the maximum content length in bytes
+	 * @since 5.2.3
+	 */
+	public void setMaxCachedContentLength(long maxCachedContentLength) {
+		this.maxCachedContentLength = maxCachedContentLength;
+	}
+
+	/**
+	 * Return the maximum length of resources whose content is cached.
+	 * @since 5.2.3
+	 */
+	public long getMaxCachedContentLength() {
+		return this.maxCachedContentLength;
+	}
+
 
 	@Override
 	protected Mono<Resource> resolveResourceInternal(@Nullable ServerWebExchange exchange,
@@ -118,9 +159,38 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 		}
 
 		return chain.resolveResource(exchange, requestPath, locations)
+				.flatMap(this::loadContentIfAppropriate)
 				.doOnNext(resource -> this.cache.put(key, resource));
 	}
 
+	private Mono<Resource> loadContentIfAppropriate(Resource resource) {
+		if (this.maxCachedContentLength < 0) {
+			return Mono.just(resource);
+		}
+		try {
+			if (resource.contentLength() > this.maxCachedContentLength) {
+				return Mono.just(resource);
+			}
+		}
+		catch (IOException ex) {
+			return Mono.just(resource);
+		}
+		return DataBufferUtils.join(DataBufferUtils.read(resource, dataBufferFactory, StreamUtils.BUFFER_SIZE))
+				.<Resource>map(buffer -> {
+					byte[] content = new byte[buffer.readableByteCount()];
+					buffer.read(content);
+					DataBufferUtils.release(buffer);
+					return new CachedContentResource(resource, content);
+				})
+				.onErrorResume(ex -> {
+					if (logger.isTraceEnabled()) {
+						logger.trace("Failed to load content of " + resource + " into the cache", ex);
+					}
+					return Mono.just(resource);
+				})
+				.defaultIfEmpty(resource);
+	}
+
 	protected String computeKey(@Nullable ServerWebExchange exchange, String requestPath) {
 		if (exchange != null) {
 			String codingKey = getContentCodingKey(exchange);
@@ -163,4 +233,45 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 				.doOnNext(resolvedPath -> this.cache.put(key, resolvedPath));
 	}
 
+
+	/**
+	 * A resource with its content loaded into memory, preserving all other
+	 * information of the original resource.
+	 */
+	static final class CachedContentResource extends TransformedResource implements HttpResource {
+
+		private final Resource original;
+
+		CachedContentResource(Resource original, byte[] content) {
+			super(original, content);
+			this.original = original;
+		}
+
+		@Override
+		public URL getURL() throws IOException {
+			return this.original.getURL();
+		}
+
+		@Override
+		public URI getURI() throws IOException {
+			return this.original.getURI();
+		}
+
+		@Override
+		public Resource createRelative(String relativePath) throws IOException {
+			return this.original.createRelative(relativePath);
+		}
+
+		@Override
+		public String getDescription() {
+			return this.original.getDescription();
+		}
+
+		@Override
+		public HttpHeaders getResponseHeaders() {
+			return (this.original instanceof HttpResource ?
+					((HttpResource) this.original).getResponseHeaders() : new HttpHeaders());
+		}
+	}
+
 }
@@ -24,6 +24,7 @@ import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.context.ApplicationContext;
@@ -88,6 +89,7 @@ public class ResourceUrlProvider implements ApplicationListener<ContextRefreshed
 		if (this.handlerMap.isEmpty()) {
 			detectResourceHandlers(event.getApplicationContext());
 		}
+		initVersionIndexes();
 	}
 
 	private void detectResourceHandlers(ApplicationContext context) {
@@ -108,6 +110,20 @@ public class ResourceUrlProvider implements ApplicationListener<ContextRefreshed
 		}
 	}
 
+	/**
+	 * Precompute resource versions in the background for each
+	 * {@link VersionResourceResolver} with a version index, based on the
+	 * locations of its resource handler.
+	 * @see VersionResourceResolver#initVersionIndex(List)
+	 */
+	private void initVersionIndexes() {
+		Flux.fromIterable(this.handlerMap.values())
+				.flatMap(handler -> Flux.fromIterable(handler.getResourceResolvers())
+						.ofType(VersionResourceResolver.class)
+						.flatMap(resolver -> resolver.initVersionIndex(handler.getLocations())))
+				.subscribe(null, ex -> logger.warn("Failed to precompute resource versions", ex));
+	}
+
 
 	/**
 	 * Get the public resource URL for the given URI string.
@@ -21,16 +21,24 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.Nullable;
@@ -58,6 +66,14 @@ import org.springframework.web.server.ServerWebExchange;
  * links within CSS files to also contain the appropriate versions generated
  * by this resolver.
  *
+ * <p>Computing a content-based version requires reading the entire resource.
+ * With the {@link #setUseVersionIndex version index} turned on, versions are
+ * computed at most once per resource path and shared by resource resolution
+ * and URL generation (e.g. through {@link ResourceUrlProvider}). The index can
+ * be {@link #initVersionIndex precomputed} at startup, which
+ * {@link ResourceUrlProvider} does on context refresh, or it can be
+ * {@link #setVersionIndex loaded} from versions computed at build time.
+ *
  * @author Rossen Stoyanchev
  * @author Brian Clozel
  * @since 5.0
@@ -70,6 +86,11 @@ public class VersionResourceResolver extends AbstractResourceResolver {
 	/** Map from path pattern -> VersionStrategy. */
 	private final Map<String, VersionStrategy> versionStrategyMap = new LinkedHashMap<>();
 
+	/** Map from resource path -> version. */
+	private final Map<String, String> versionIndex = new ConcurrentHashMap<>(256);
+
+	private boolean useVersionIndex = false;
+
 
 	/**
 	 * Set a Map with URL paths as keys and {@code VersionStrategy} as values.
@@ -153,6 +174,102 @@ public class VersionResourceResolver extends AbstractResourceResolver {
 		return this;
 	}
 
+	/**
+	 * Whether to keep the version of each resource in an index keyed by resource
+	 * path, so that it is computed only once.
+	 * <p>By default this is set to {@code false}, i.e. the version is obtained
+	 * from the {@link VersionStrategy} each time it is needed. Turn this on if
+	 * resources remain unchanged while the application is running.
+	 * @since 5.2.3
+	 * @see #initVersionIndex(List)
+	 */
+	public void setUseVersionIndex(boolean useVersionIndex) {
+		this.useVersionIndex = useVersionIndex;
+	}
+
+	/**
+	 * Return whether resource versions are kept in an index.
+	 * @since 5.2.3
+	 */
+	public boolean isUseVersionIndex() {
+		return this.useVersionIndex;
+	}
+
+	/**
+	 * Add the given resource versions to the index, e.g. as computed at build
+	 * time, and turn on the {@link #setUseVersionIndex version index}.
+	 * @param versions map from resource path, relative to the resource
+	 * locations (e.g. {@code "css/main.css"}), to version
+	 * @since 5.2.3
+	 */
+	public void setVersionIndex(Map<String, String> versions) {
+		this.versionIndex.putAll(versions);
+		this.useVersionIndex = true;
+	}
+
+	/**
+	 * Return a read-only view of the resource versions currently in the index.
+	 * @since 5.2.3
+	 */
+	public Map<String, String> getVersionIndex() {
+		return Collections.unmodifiableMap(this.versionIndex);
+	}
+
+	/**
+	 * Compute the versions of all resources under the given locations which are
+	 * not in the index yet, concurrently, if the version index is in use.
+	 * <p>Only locations in the file system are scanned. Versions of resources
+	 * in other locations (e.g. within jar files) are added to the index when
+	 * they are first needed.
+	 * @param locations the resource locations to scan, in order of precedence
+	 * @return completion signal for when all versions have been computed
+	 * @since 5.2.3
+	 */
+	public Mono<Void> initVersionIndex(List<? extends Resource> locations) {
+		if (!this.useVersionIndex) {
+			return Mono.empty();
+		}
+		return Mono.fromCallable(() -> findResourcesToIndex(locations))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMapMany(resources -> Flux.fromIterable(resources.entrySet()))
+				.flatMap(entry -> {
+					VersionStrategy versionStrategy = getStrategyForPath(entry.getKey());
+					if (versionStrategy == null) {
+						return Mono.empty();
+					}
+					return versionStrategy.getResourceVersion(entry.getValue())
+							.doOnNext(version -> this.versionIndex.putIfAbsent(entry.getKey(), version));
+				})
+				.then();
+	}
+
+	private Map<String, Resource> findResourcesToIndex(List<? extends Resource> locations) {
+		Map<String, Resource> resources = new LinkedHashMap<>();
+		for (Resource location : locations) {
+			try {
+				if (!location.isFile() || !location.getFile().isDirectory()) {
+					continue;
+				}
+				Path root = location.getFile().toPath();
+				try (Stream<Path> files = Files.walk(root)) {
+					files.filter(Files::isRegularFile).forEach(file -> {
+						String path = StringUtils.cleanPath(root.relativize(file).toString());
+						if (!resources.containsKey(path) && !this.versionIndex.containsKey(path) &&
+								getStrategyForPath(path) != null) {
+							resources.put(path, new FileSystemResource(file));
+						}
+					});
+				}
+			}
+			catch (IOException ex) {
+				if (logger.isWarnEnabled()) {
+					logger.warn("Failed to scan " + location + " for resource versions", ex);
+				}
+			}
+		}
+		return resources;
+	}
+
 
 	@Override
 	protected Mono<Resource> resolveResourceInternal(@Nullable ServerWebExchange exchange,
@@ -178,7 +295,7 @@ public class VersionResourceResolver extends AbstractResourceResolver {
 
 		String simplePath = versionStrategy.removeVersion(requestPath, candidate);
 		return chain.resolveResource(exchange, simplePath, locations)
-				.filterWhen(resource -> versionStrategy.getResourceVersion(resource)
+				.filterWhen(resource -> getResourceVersion(versionStrategy, simplePath, resource)
 						.map(actual -> {
 							if (candidate.equals(actual)) {
 								return true;
@@ -207,13 +324,25 @@ public class VersionResourceResolver extends AbstractResourceResolver {
 							return Mono.just(baseUrl);
 						}
 						return chain.resolveResource(null, baseUrl, locations)
-								.flatMap(resource -> strategy.getResourceVersion(resource)
+								.flatMap(resource -> getResourceVersion(strategy, baseUrl, resource)
 										.map(version -> strategy.addVersion(baseUrl, version)));
 					}
 					return Mono.empty();
 				});
 	}
 
+	private Mono<String> getResourceVersion(VersionStrategy versionStrategy, String path, Resource resource) {
+		if (!this.useVersionIndex) {
+			return versionStrategy.getResourceVersion(resource);
+		}
+		String version = this.versionIndex.get(path);
+		if (version != null) {
+			return Mono.just(version);
+		}
+		return versionStrategy.getResourceVersion(resource)
+				.doOnNext(actual -> this.versionIndex.put(path, actual));
+	}
+
 	/**
 	 * Find a {@code VersionStrategy} for the request path of the requested resource.
 	 * @return an instance of a {@code VersionStrategy} or null if none matches that request path
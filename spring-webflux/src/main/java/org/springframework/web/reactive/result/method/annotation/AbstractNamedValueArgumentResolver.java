@@ -92,7 +92,8 @@ public abstract class AbstractNamedValueArgumentResolver extends HandlerMethodAr
 		NamedValueInfo namedValueInfo = getNamedValueInfo(parameter);
 		MethodParameter nestedParameter = parameter.nestedIfOptional();
 
-		Object resolvedName = resolveStringValue(namedValueInfo.name);
+		Object resolvedName = (namedValueInfo.literalName ?
+				namedValueInfo.name : resolveStringValue(namedValueInfo.name));
 		if (resolvedName == null) {
 			return Mono.error(new IllegalArgumentException(
 					"Specified name must not resolve to null: [" + namedValueInfo.name + "]"));
@@ -103,7 +104,7 @@ public abstract class AbstractNamedValueArgumentResolver extends HandlerMethodAr
 		return resolveName(resolvedName.toString(), nestedParameter, exchange)
 				.flatMap(arg -> {
 					if ("".equals(arg) && namedValueInfo.defaultValue != null) {
-						arg = resolveStringValue(namedValueInfo.defaultValue);
+						arg = resolveDefaultValue(namedValueInfo);
 					}
 					arg = applyConversion(arg, namedValueInfo, parameter, bindingContext, exchange);
 					handleResolvedValue(arg, namedValueInfo.name, parameter, model, exchange);
@@ -150,7 +151,40 @@ public abstract class AbstractNamedValueArgumentResolver extends HandlerMethodAr
 			}
 		}
 		String defaultValue = (ValueConstants.DEFAULT_NONE.equals(info.defaultValue) ? null : info.defaultValue);
-		return new NamedValueInfo(name, info.required, defaultValue);
+		return new NamedValueInfo(name, info.required, defaultValue,
+				isLiteral(name), (defaultValue != null && isLiteral(defaultValue)));
+	}
+
+	/**
+	 * Whether the given annotation-specified value resolves to itself, i.e. it
+	 * contains no placeholders or expressions and does not need to be resolved
+	 * again for every request.
+	 */
+	private boolean isLiteral(String value) {
+		if (this.configurableBeanFactory == null) {
+			return true;
+		}
+		if (value.contains("${") || value.contains("#{")) {
+			return false;
+		}
+		try {
+			return value.equals(resolveStringValue(value));
+		}
+		catch (RuntimeException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Resolve the default value of the given named value, unless it is a literal.
+	 */
+	@Nullable
+	private Object resolveDefaultValue(NamedValueInfo namedValueInfo) {
+		String defaultValue = namedValueInfo.defaultValue;
+		if (defaultValue == null || namedValueInfo.literalDefaultValue) {
+			return defaultValue;
+		}
+		return resolveStringValue(defaultValue);
 	}
 
 	/**
@@ -209,7 +243,7 @@ public abstract class AbstractNamedValueArgumentResolver extends HandlerMethodAr
 		return Mono.fromSupplier(() -> {
 			Object value = null;
 			if (namedValueInfo.defaultValue != null) {
-				value = resolveStringValue(namedValueInfo.defaultValue);
+				value = resolveDefaultValue(namedValueInfo);
 			}
 			else if (namedValueInfo.required && !parameter.isOptional()) {
 				handleMissingValue(namedValueInfo.name, parameter, exchange);
@@ -296,10 +330,22 @@ public abstract class AbstractNamedValueArgumentResolver extends HandlerMethodAr
 		@Nullable
 		private final String defaultValue;
 
+		private final boolean literalName;
+
+		private final boolean literalDefaultValue;
+
 		public NamedValueInfo(String name, boolean required, @Nullable String defaultValue) {
+			this(name, required, defaultValue, false, false);
+		}
+
+		private NamedValueInfo(String name, boolean required, @Nullable String defaultValue,
+				boolean literalName, boolean literalDefaultValue) {
+
 			this.name = name;
 			this.required = required;
 			this.defaultValue = defaultValue;
+			this.literalName = literalName;
+			this.literalDefaultValue = literalDefaultValue;
 		}
 	}
 
@@ -95,9 +95,14 @@ class ControllerMethodResolver {
 
 	private final ReactiveAdapterRegistry reactiveAdapterRegistry;
 
+	private final ConfigurableListableBeanFactory beanFactory;
+
 
 	private final Map<Class<?>, Set<Method>> initBinderMethodCache = new ConcurrentHashMap<>(64);
 
+	private final Map<Object, Map<Method, SyncInvocableHandlerMethod>> initBinderInvocableCache =
+			new ConcurrentHashMap<>(64);
+
 	private final Map<Class<?>, Set<Method>> modelAttributeMethodCache = new ConcurrentHashMap<>(64);
 
 	private final Map<Class<?>, ExceptionHandlerMethodResolver> exceptionHandlerCache = new ConcurrentHashMap<>(64);
@@ -126,6 +131,7 @@ class ControllerMethodResolver {
 		this.requestMappingResolvers = requestMappingResolvers(customResolvers, adapterRegistry, context, readers);
 		this.exceptionHandlerResolvers = exceptionHandlerResolvers(customResolvers, adapterRegistry, context);
 		this.reactiveAdapterRegistry = adapterRegistry;
+		this.beanFactory = context.getBeanFactory();
 
 		initControllerAdviceCaches(context);
 	}
@@ -278,22 +284,55 @@ class ControllerMethodResolver {
 		this.initBinderAdviceCache.forEach((adviceBean, methods) -> {
 			if (adviceBean.isApplicableToBeanType(handlerType)) {
 				Object bean = adviceBean.resolveBean();
-				methods.forEach(method -> result.add(getInitBinderMethod(bean, method)));
+				Object cacheKey = (adviceBean.isSingleton() ? adviceBean : null);
+				methods.forEach(method -> result.add(getInitBinderMethod(cacheKey, bean, method)));
 			}
 		});
 
+		String beanName = getSingletonBeanName(handlerMethod);
 		this.initBinderMethodCache
 				.computeIfAbsent(handlerType,
 						clazz -> MethodIntrospector.selectMethods(handlerType, INIT_BINDER_METHODS))
 				.forEach(method -> {
 					Object bean = handlerMethod.getBean();
-					result.add(getInitBinderMethod(bean, method));
+					result.add(getInitBinderMethod(beanName, bean, method));
 				});
 
 		return result;
 	}
 
-	private SyncInvocableHandlerMethod getInitBinderMethod(Object bean, Method method) {
+	/**
+	 * Return the name of the singleton bean that the given handler method
+	 * has been resolved from, or {@code null} if not known to be a singleton.
+	 */
+	@Nullable
+	private String getSingletonBeanName(HandlerMethod handlerMethod) {
+		HandlerMethod resolvedFrom = handlerMethod.getResolvedFromHandlerMethod();
+		if (resolvedFrom != null && resolvedFrom.getBean() instanceof String) {
+			String beanName = (String) resolvedFrom.getBean();
+			if (this.beanFactory.containsBean(beanName) && this.beanFactory.isSingleton(beanName)) {
+				return beanName;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the {@code @InitBinder} method for the given bean. For a singleton
+	 * bean, identified by the given cache key, the method is created once and
+	 * re-used, since a {@link SyncInvocableHandlerMethod} holds no per-request state.
+	 * @param cacheKey the bean name or advice bean for a singleton, or {@code null}
+	 */
+	private SyncInvocableHandlerMethod getInitBinderMethod(@Nullable Object cacheKey, Object bean, Method method) {
+		if (cacheKey == null) {
+			return createInitBinderMethod(bean, method);
+		}
+		return this.initBinderInvocableCache
+				.computeIfAbsent(cacheKey, key -> new ConcurrentHashMap<>(4))
+				.computeIfAbsent(method, key -> createInitBinderMethod(bean, method));
+	}
+
+	private SyncInvocableHandlerMethod createInitBinderMethod(Object bean, Method method) {
 		SyncInvocableHandlerMethod invocable = new SyncInvocableHandlerMethod(bean, method);
 		invocable.setArgumentResolvers(this.initBinderResolvers);
 		return invocable;
@@ -51,6 +51,26 @@ public class HeaderContentTypeResolverTests {
 		assertThat(mediaTypes.get(3).toString()).isEqualTo("text/plain;q=0.5");
 	}
 
+	@Test
+	public void resolveMediaTypesCachedPerHeaderValue() throws Exception {
+		String header = "application/json, text/plain; q=0.5";
+		List<MediaType> mediaTypes = this.resolver.resolveMediaTypes(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/").header("accept", header)));
+
+		assertThat(this.resolver.resolveMediaTypes(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/").header("accept", header))))
+				.isSameAs(mediaTypes);
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(mediaTypes::clear);
+	}
+
+	@Test
+	public void resolveMediaTypesForAll() throws Exception {
+		List<MediaType> mediaTypes = this.resolver.resolveMediaTypes(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/").header("accept", "*/*")));
+
+		assertThat(mediaTypes).isSameAs(RequestedContentTypeResolver.MEDIA_TYPE_ALL_LIST);
+	}
+
 	@Test
 	public void resolveMediaTypesParseError() throws Exception {
 		String header = "textplain; q=0.5";
@@ -19,6 +19,7 @@ package org.springframework.web.reactive.resource;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +32,7 @@ import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.mock.web.test.server.MockServerWebExchange;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.reactive.resource.GzipSupport.GzippedFiles;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -90,6 +92,40 @@ public class CachingResourceResolverTests {
 		assertThat(actual).isSameAs(expected);
 	}
 
+	@Test
+	public void resolveResourceWithCachedContent() throws IOException {
+		CachingResourceResolver resolver = new CachingResourceResolver(this.cache);
+		resolver.setMaxCachedContentLength(1024);
+		ResourceResolverChain chain = new DefaultResourceResolverChain(
+				Arrays.asList(resolver, new PathResourceResolver()));
+		Resource original = new ClassPathResource("test/bar.css", getClass());
+
+		MockServerWebExchange exchange = MockServerWebExchange.from(get(""));
+		Resource actual = chain.resolveResource(exchange, "bar.css", this.locations).block(TIMEOUT);
+
+		assertThat(actual).isInstanceOf(CachingResourceResolver.CachedContentResource.class);
+		assertThat(actual.isFile()).isFalse();
+		assertThat(actual.getFilename()).isEqualTo("bar.css");
+		assertThat(actual.getURL()).isEqualTo(original.getURL());
+		assertThat(actual.lastModified()).isEqualTo(original.lastModified());
+		assertThat(StreamUtils.copyToByteArray(actual.getInputStream()))
+				.isEqualTo(StreamUtils.copyToByteArray(original.getInputStream()));
+		assertThat(chain.resolveResource(exchange, "bar.css", this.locations).block(TIMEOUT)).isSameAs(actual);
+	}
+
+	@Test
+	public void resolveResourceExceedingMaxCachedContentLength() {
+		CachingResourceResolver resolver = new CachingResourceResolver(this.cache);
+		resolver.setMaxCachedContentLength(1);
+		ResourceResolverChain chain = new DefaultResourceResolverChain(
+				Arrays.asList(resolver, new PathResourceResolver()));
+
+		MockServerWebExchange exchange = MockServerWebExchange.from(get(""));
+		Resource actual = chain.resolveResource(exchange, "bar.css", this.locations).block(TIMEOUT);
+
+		assertThat(actual).isEqualTo(new ClassPathResource("test/bar.css", getClass()));
+	}
+
 	@Test
 	public void resolveResourceInternalNoMatch() {
 		MockServerWebExchange exchange = MockServerWebExchange.from(get(""));
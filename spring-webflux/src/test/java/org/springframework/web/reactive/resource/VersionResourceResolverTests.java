@@ -178,6 +178,63 @@ public class VersionResourceResolverTests {
 		assertThat(((HttpResource) actual).getResponseHeaders().getETag()).isEqualTo(("\"" + version + "\""));
 	}
 
+	@Test
+	public void resolveResourceWithVersionIndex() {
+		String versionFile = "bar-version.css";
+		String version = "version";
+		String file = "bar.css";
+		Resource expected = new ClassPathResource("test/" + file, getClass());
+		MockServerHttpRequest request = MockServerHttpRequest.get("/resources/bar-version.css").build();
+		ServerWebExchange exchange = MockServerWebExchange.from(request);
+		given(this.chain.resolveResource(exchange, versionFile, this.locations)).willReturn(Mono.empty());
+		given(this.chain.resolveResource(exchange, file, this.locations)).willReturn(Mono.just(expected));
+		given(this.versionStrategy.extractVersion(versionFile)).willReturn(version);
+		given(this.versionStrategy.removeVersion(versionFile, version)).willReturn(file);
+		given(this.versionStrategy.getResourceVersion(expected)).willReturn(Mono.just(version));
+
+		this.resolver.setStrategyMap(Collections.singletonMap("/**", this.versionStrategy));
+		this.resolver.setUseVersionIndex(true);
+		for (int i = 0; i < 2; i++) {
+			Resource actual = this.resolver
+					.resolveResourceInternal(exchange, versionFile, this.locations, this.chain)
+					.block(Duration.ofMillis(5000));
+			assertThat(actual.getFilename()).isEqualTo(expected.getFilename());
+		}
+
+		verify(this.versionStrategy, times(1)).getResourceVersion(expected);
+		assertThat(this.resolver.getVersionIndex()).containsEntry(file, version);
+	}
+
+	@Test
+	public void resolveUrlPathWithPreloadedVersionIndex() {
+		Resource resource = new ClassPathResource("test/bar.css", getClass());
+		given(this.chain.resolveUrlPath("bar.css", this.locations)).willReturn(Mono.just("bar.css"));
+		given(this.chain.resolveResource(null, "bar.css", this.locations)).willReturn(Mono.just(resource));
+		given(this.versionStrategy.addVersion("bar.css", "prebuilt")).willReturn("bar-prebuilt.css");
+
+		this.resolver.setStrategyMap(Collections.singletonMap("/**", this.versionStrategy));
+		this.resolver.setVersionIndex(Collections.singletonMap("bar.css", "prebuilt"));
+		String resolved = this.resolver.resolveUrlPathInternal("bar.css", this.locations, this.chain)
+				.block(Duration.ofMillis(5000));
+
+		assertThat(resolved).isEqualTo("bar-prebuilt.css");
+		verify(this.versionStrategy, never()).getResourceVersion(resource);
+	}
+
+	@Test
+	public void initVersionIndex() {
+		this.resolver.addContentVersionStrategy("/**/*.css");
+		this.resolver.setUseVersionIndex(true);
+		this.resolver.initVersionIndex(this.locations).block(Duration.ofMillis(5000));
+
+		Map<String, String> index = this.resolver.getVersionIndex();
+		Resource resource = new ClassPathResource("test/bar.css", getClass());
+		String version = new ContentVersionStrategy().getResourceVersion(resource).block(Duration.ofMillis(5000));
+		assertThat(index).containsEntry("bar.css", version);
+		assertThat(index).containsKeys("foo.css", "baz.css");
+		assertThat(index).doesNotContainKey("foo.txt");
+	}
+
 	@Test
 	public void getStrategyForPath() {
 		Map<String, VersionStrategy> strategies = new HashMap<>();
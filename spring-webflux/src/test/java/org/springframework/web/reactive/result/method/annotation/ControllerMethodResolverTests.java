@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -56,6 +57,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class ControllerMethodResolverTests {
 
+	private AnnotationConfigApplicationContext applicationContext;
+
 	private ControllerMethodResolver methodResolver;
 
 	private HandlerMethod handlerMethod;
@@ -71,12 +74,15 @@ public class ControllerMethodResolverTests {
 		codecs.customCodecs().register(new ByteArrayDecoder());
 		codecs.customCodecs().register(new ByteBufferDecoder());
 
-		AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
-		applicationContext.registerBean(TestControllerAdvice.class);
-		applicationContext.refresh();
+		this.applicationContext = new AnnotationConfigApplicationContext();
+		this.applicationContext.registerBean(TestControllerAdvice.class);
+		this.applicationContext.registerBean("singletonController", TestController.class);
+		this.applicationContext.registerBean("prototypeController", TestController.class,
+				bd -> bd.setScope(BeanDefinition.SCOPE_PROTOTYPE));
+		this.applicationContext.refresh();
 
 		this.methodResolver = new ControllerMethodResolver(
-				resolvers, ReactiveAdapterRegistry.getSharedInstance(), applicationContext, codecs.getReaders());
+				resolvers, ReactiveAdapterRegistry.getSharedInstance(), this.applicationContext, codecs.getReaders());
 
 		Method method = ResolvableMethod.on(TestController.class).mockCall(TestController::handle).method();
 		this.handlerMethod = new HandlerMethod(new TestController(), method);
@@ -188,6 +194,29 @@ public class ControllerMethodResolverTests {
 		assertThat(next(resolvers, index).getClass()).isEqualTo(RequestParamMethodArgumentResolver.class);
 	}
 
+	@Test
+	public void initBinderMethodsReusedForSingletonBeans() {
+		Method method = this.handlerMethod.getMethod();
+		HandlerMethod singleton = new HandlerMethod("singletonController", this.applicationContext, method);
+		HandlerMethod prototype = new HandlerMethod("prototypeController", this.applicationContext, method);
+
+		List<SyncInvocableHandlerMethod> methods =
+				this.methodResolver.getInitBinderMethods(singleton.createWithResolvedBean());
+		List<SyncInvocableHandlerMethod> sameMethods =
+				this.methodResolver.getInitBinderMethods(singleton.createWithResolvedBean());
+		assertThat(sameMethods.get(0)).isSameAs(methods.get(0));
+		assertThat(sameMethods.get(1)).isSameAs(methods.get(1));
+
+		List<SyncInvocableHandlerMethod> prototypeMethods =
+				this.methodResolver.getInitBinderMethods(prototype.createWithResolvedBean());
+		List<SyncInvocableHandlerMethod> otherPrototypeMethods =
+				this.methodResolver.getInitBinderMethods(prototype.createWithResolvedBean());
+		assertThat(prototypeMethods.get(0)).isSameAs(methods.get(0));
+		assertThat(prototypeMethods.get(1)).isNotSameAs(methods.get(1));
+		assertThat(otherPrototypeMethods.get(1)).isNotSameAs(prototypeMethods.get(1));
+		assertThat(otherPrototypeMethods.get(1).getBean()).isNotSameAs(prototypeMethods.get(1).getBean());
+	}
+
 	@Test
 	public void exceptionHandlerArgumentResolvers() {
 		InvocableHandlerMethod invocable = this.methodResolver.getExceptionHandlerMethod(
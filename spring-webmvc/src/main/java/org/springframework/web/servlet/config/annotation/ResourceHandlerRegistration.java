@@ -47,6 +47,8 @@ public class ResourceHandlerRegistration {
 	@Nullable
 	private CacheControl cacheControl;
 
+	private long sendfileThreshold = -1;
+
 	@Nullable
 	private ResourceChainRegistration resourceChainRegistration;
 
@@ -109,6 +111,19 @@ public class ResourceHandlerRegistration {
 		return this;
 	}
 
+	/**
+	 * Specify the minimum length of file-based resources, in bytes, to hand
+	 * off to the Servlet container's sendfile support, if available.
+	 * @param sendfileThreshold the minimum content length in bytes
+	 * @return the same {@link ResourceHandlerRegistration} instance, for chained method invocation
+	 * @since 5.2.3
+	 * @see ResourceHttpRequestHandler#setSendfileThreshold(long)
+	 */
+	public ResourceHandlerRegistration setSendfileThreshold(long sendfileThreshold) {
+		this.sendfileThreshold = sendfileThreshold;
+		return this;
+	}
+
 	/**
 	 * Configure a chain of resource resolvers and transformers to use. This
 	 * can be useful, for example, to apply a version strategy to resource URLs.
@@ -172,6 +187,7 @@ public class ResourceHandlerRegistration {
 		else if (this.cachePeriod != null) {
 			handler.setCacheSeconds(this.cachePeriod);
 		}
+		handler.setSendfileThreshold(this.sendfileThreshold);
 		return handler;
 	}
 
@@ -166,7 +166,7 @@ public class RouterFunctionMapping extends AbstractHandlerMapping implements Ini
 	@Nullable
 	@Override
 	protected Object getHandlerInternal(HttpServletRequest servletRequest) throws Exception {
-		String lookupPath = getUrlPathHelper().getLookupPathForRequest(servletRequest);
+		String lookupPath = getUrlPathHelper().resolveAndCacheLookupPath(servletRequest);
 		servletRequest.setAttribute(LOOKUP_PATH, lookupPath);
 		if (this.routerFunction != null) {
 			ServerRequest request = ServerRequest.create(servletRequest, this.messageConverters);
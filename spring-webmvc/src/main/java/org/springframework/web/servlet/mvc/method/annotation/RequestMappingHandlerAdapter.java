@@ -187,6 +187,8 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 
 	private final Map<ControllerAdviceBean, Set<Method>> initBinderAdviceCache = new LinkedHashMap<>();
 
+	private final Map<Object, Map<Method, InvocableHandlerMethod>> initBinderMethodCache = new ConcurrentHashMap<>(64);
+
 	private final Map<Class<?>, Set<Method>> modelAttributeCache = new ConcurrentHashMap<>(64);
 
 	private final Map<ControllerAdviceBean, Set<Method>> modelAttributeAdviceCache = new LinkedHashMap<>();
@@ -954,18 +956,51 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		this.initBinderAdviceCache.forEach((controllerAdviceBean, methodSet) -> {
 			if (controllerAdviceBean.isApplicableToBeanType(handlerType)) {
 				Object bean = controllerAdviceBean.resolveBean();
+				Object cacheKey = (controllerAdviceBean.isSingleton() ? controllerAdviceBean : null);
 				for (Method method : methodSet) {
-					initBinderMethods.add(createInitBinderMethod(bean, method));
+					initBinderMethods.add(getInitBinderMethod(cacheKey, bean, method));
 				}
 			}
 		});
+		String beanName = getSingletonBeanName(handlerMethod);
 		for (Method method : methods) {
 			Object bean = handlerMethod.getBean();
-			initBinderMethods.add(createInitBinderMethod(bean, method));
+			initBinderMethods.add(getInitBinderMethod(beanName, bean, method));
 		}
 		return createDataBinderFactory(initBinderMethods);
 	}
 
+	/**
+	 * Return the name of the singleton bean that the given handler method
+	 * has been resolved from, or {@code null} if not known to be a singleton.
+	 */
+	@Nullable
+	private String getSingletonBeanName(HandlerMethod handlerMethod) {
+		HandlerMethod resolvedFrom = handlerMethod.getResolvedFromHandlerMethod();
+		if (resolvedFrom != null && resolvedFrom.getBean() instanceof String && this.beanFactory != null) {
+			String beanName = (String) resolvedFrom.getBean();
+			if (this.beanFactory.containsBean(beanName) && this.beanFactory.isSingleton(beanName)) {
+				return beanName;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the {@code @InitBinder} method for the given bean. For a singleton
+	 * bean, identified by the given cache key, the method is created once and
+	 * re-used, since an {@link InvocableHandlerMethod} holds no per-request state.
+	 * @param cacheKey the bean name or advice bean for a singleton, or {@code null}
+	 */
+	private InvocableHandlerMethod getInitBinderMethod(@Nullable Object cacheKey, Object bean, Method method) {
+		if (cacheKey == null) {
+			return createInitBinderMethod(bean, method);
+		}
+		return this.initBinderMethodCache
+				.computeIfAbsent(cacheKey, key -> new ConcurrentHashMap<>(4))
+				.computeIfAbsent(method, key -> createInitBinderMethod(bean, method));
+	}
+
 	private InvocableHandlerMethod createInitBinderMethod(Object bean, Method method) {
 		InvocableHandlerMethod binderMethod = new InvocableHandlerMethod(bean, method);
 		if (this.initBinderArgumentResolvers != null) {
@@ -16,6 +16,10 @@
 
 package org.springframework.web.servlet.resource;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,6 +34,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -37,6 +42,11 @@ import org.springframework.util.StringUtils;
  * resolves resources from a {@link org.springframework.cache.Cache} or otherwise
  * delegates to the resolver chain and saves the result in the cache.
  *
+ * <p>Optionally, the content of small resources can be held in the cache as
+ * well, see {@link #setMaxCachedContentLength}. Such resources are then served
+ * from memory, without file system access for their content, length, and
+ * last-modified timestamp.
+ *
  * @author Rossen Stoyanchev
  * @author Brian Clozel
  * @since 4.1
@@ -58,6 +68,8 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 
 	private final List<String> contentCodings = new ArrayList<>(EncodedResourceResolver.DEFAULT_CODINGS);
 
+	private long maxCachedContentLength = -1;
+
 
 	public CachingResourceResolver(Cache cache) {
 		Assert.notNull(cache, "Cache is required");
@@ -104,6 +116,30 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 		return Collections.unmodifiableList(this.contentCodings);
 	}
 
+	/**
+	 * Set the maximum length of resources, in bytes, whose content is to be
+	 * loaded into memory and cached along with the resolved resource.
+	 * <p>By default this is set to -1, i.e. only the resolved resource is cached
+	 * and its content is read on every request. Note that cached content is not
+	 * refreshed when the underlying file changes, so this is meant for assets
+	 * which remain unchanged while the application is running. Also, consider
+	 * a size-bounded {@link Cache} implementation (e.g. with LRU eviction) to
+	 * limit the overall amount of memory in use.
+	 * @param maxCachedContentLength the maximum content length in bytes
+	 * @since 5.2.3
+	 */
+	public void setMaxCachedContentLength(long maxCachedContentLength) {
+		this.maxCachedContentLength = maxCachedContentLength;
+	}
+
+	/**
+	 * Return the maximum length of resources whose content is cached.
+	 * @since 5.2.3
+	 */
+	public long getMaxCachedContentLength() {
+		return this.maxCachedContentLength;
+	}
+
 
 	@Override
 	protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
@@ -121,12 +157,35 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 
 		resource = chain.resolveResource(request, requestPath, locations);
 		if (resource != null) {
+			resource = loadContentIfAppropriate(resource);
 			this.cache.put(key, resource);
 		}
 
 		return resource;
 	}
 
+	private Resource loadContentIfAppropriate(Resource resource) {
+		if (this.maxCachedContentLength < 0) {
+			return resource;
+		}
+		try {
+			if (resource.contentLength() > this.maxCachedContentLength) {
+				return resource;
+			}
+			byte[] content;
+			try (InputStream inputStream = resource.getInputStream()) {
+				content = StreamUtils.copyToByteArray(inputStream);
+			}
+			return new CachedContentResource(resource, content);
+		}
+		catch (IOException ex) {
+			if (logger.isTraceEnabled()) {
+				logger.trace("Failed to load content of " + resource + " into the cache", ex);
+			}
+			return resource;
+		}
+	}
+
 	protected String computeKey(@Nullable HttpServletRequest request, String requestPath) {
 		if (request != null) {
 			String codingKey = getContentCodingKey(request);
@@ -175,4 +234,45 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 		return resolvedUrlPath;
 	}
 
+
+	/**
+	 * A resource with its content loaded into memory, preserving all other
+	 * information of the original resource.
+	 */
+	static final class CachedContentResource extends TransformedResource implements HttpResource {
+
+		private final Resource original;
+
+		CachedContentResource(Resource original, byte[] content) {
+			super(original, content);
+			this.original = original;
+		}
+
+		@Override
+		public URL getURL() throws IOException {
+			return this.original.getURL();
+		}
+
+		@Override
+		public URI getURI() throws IOException {
+			return this.original.getURI();
+		}
+
+		@Override
+		public Resource createRelative(String relativePath) throws IOException {
+			return this.original.createRelative(relativePath);
+		}
+
+		@Override
+		public String getDescription() {
+			return this.original.getDescription();
+		}
+
+		@Override
+		public HttpHeaders getResponseHeaders() {
+			return (this.original instanceof HttpResource ?
+					((HttpResource) this.original).getResponseHeaders() : new HttpHeaders());
+		}
+	}
+
 }
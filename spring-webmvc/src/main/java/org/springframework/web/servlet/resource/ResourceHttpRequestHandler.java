@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.servlet.ServletException;
+import javax.servlet.ServletResponseWrapper;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -103,6 +104,14 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 
 	private static final String URL_RESOURCE_CHARSET_PREFIX = "[charset=";
 
+	private static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+	private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+	private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+	private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
 
 	private final List<String> locationValues = new ArrayList<>(4);
 
@@ -141,6 +150,8 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 	@Nullable
 	private StringValueResolver embeddedValueResolver;
 
+	private long sendfileThreshold = -1;
+
 
 	public ResourceHttpRequestHandler() {
 		super(HttpMethod.GET.name(), HttpMethod.HEAD.name());
@@ -312,6 +323,32 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		return this.urlPathHelper;
 	}
 
+	/**
+	 * Set the minimum length of file-based resources, in bytes, which are
+	 * to be handed off to the Servlet container for sending through
+	 * {@code sendfile}, i.e. without copying their content through the
+	 * Servlet output stream.
+	 * <p>This relies on the sendfile request attributes supported by Tomcat's
+	 * NIO and APR connectors, and applies only if the container indicates
+	 * sendfile support for the current request, if the response has not been
+	 * wrapped (e.g. by a content caching filter), and if no range is requested.
+	 * Otherwise resources are written as usual.
+	 * <p>By default this is set to -1, i.e. sendfile is not used.
+	 * @param sendfileThreshold the minimum content length in bytes
+	 * @since 5.2.3
+	 */
+	public void setSendfileThreshold(long sendfileThreshold) {
+		this.sendfileThreshold = sendfileThreshold;
+	}
+
+	/**
+	 * Return the minimum length of resources to send through {@code sendfile}.
+	 * @since 5.2.3
+	 */
+	public long getSendfileThreshold() {
+		return this.sendfileThreshold;
+	}
+
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
 		this.embeddedValueResolver = resolver;
@@ -486,7 +523,9 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		if (request.getHeader(HttpHeaders.RANGE) == null) {
 			Assert.state(this.resourceHttpMessageConverter != null, "Not initialized");
 			setHeaders(response, resource, mediaType);
-			this.resourceHttpMessageConverter.write(resource, mediaType, outputMessage);
+			if (!sendfile(request, response, resource)) {
+				this.resourceHttpMessageConverter.write(resource, mediaType, outputMessage);
+			}
 		}
 		else {
 			Assert.state(this.resourceRegionHttpMessageConverter != null, "Not initialized");
@@ -505,6 +544,29 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		}
 	}
 
+	/**
+	 * Hand off the given resource to the container's sendfile support, if
+	 * enabled and applicable.
+	 * @return {@code true} if the container is going to send the content,
+	 * {@code false} if the content is to be written as usual
+	 */
+	private boolean sendfile(HttpServletRequest request, HttpServletResponse response, Resource resource)
+			throws IOException {
+
+		if (this.sendfileThreshold < 0 || !resource.isFile() || response instanceof ServletResponseWrapper ||
+				!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+			return false;
+		}
+		long length = resource.contentLength();
+		if (length < this.sendfileThreshold) {
+			return false;
+		}
+		request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, resource.getFile().getAbsolutePath());
+		request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+		request.setAttribute(SENDFILE_END_ATTRIBUTE, length);
+		return true;
+	}
+
 	@Nullable
 	protected Resource getResource(HttpServletRequest request) throws IOException {
 		String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
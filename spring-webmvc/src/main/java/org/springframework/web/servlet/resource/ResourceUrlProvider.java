@@ -134,6 +134,7 @@ public class ResourceUrlProvider implements ApplicationListener<ContextRefreshed
 				this.autodetect = false;
 			}
 		}
+		initVersionIndexes();
 	}
 
 
@@ -157,6 +158,19 @@ public class ResourceUrlProvider implements ApplicationListener<ContextRefreshed
 		}
 	}
 
+	/**
+	 * Precompute resource versions for each {@link VersionResourceResolver}
+	 * with a version index, based on the locations of its resource handler.
+	 * @see VersionResourceResolver#initVersionIndex(List)
+	 */
+	private void initVersionIndexes() {
+		this.handlerMap.values().forEach(handler -> handler.getResourceResolvers().forEach(resolver -> {
+			if (resolver instanceof VersionResourceResolver) {
+				((VersionResourceResolver) resolver).initVersionIndex(handler.getLocations());
+			}
+		}));
+	}
+
 	/**
 	 * A variation on {@link #getForLookupPath(String)} that accepts a full request
 	 * URL path (i.e. including context and servlet path) and returns the full request
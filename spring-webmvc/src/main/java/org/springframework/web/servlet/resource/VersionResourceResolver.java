@@ -21,16 +21,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.Nullable;
@@ -58,6 +64,14 @@ import org.springframework.util.StringUtils;
  * links within CSS files to also contain the appropriate versions generated
  * by this resolver.
  *
+ * <p>Computing a content-based version requires reading the entire resource.
+ * With the {@link #setUseVersionIndex version index} turned on, versions are
+ * computed at most once per resource path and shared by resource resolution
+ * and URL generation (e.g. through {@link ResourceUrlProvider}). The index can
+ * be {@link #initVersionIndex precomputed} at startup, which
+ * {@link ResourceUrlProvider} does on context refresh, or it can be
+ * {@link #setVersionIndex loaded} from versions computed at build time.
+ *
  * @author Brian Clozel
  * @author Rossen Stoyanchev
  * @since 4.1
@@ -70,6 +84,11 @@ public class VersionResourceResolver extends AbstractResourceResolver {
 	/** Map from path pattern -> VersionStrategy. */
 	private final Map<String, VersionStrategy> versionStrategyMap = new LinkedHashMap<>();
 
+	/** Map from resource path -> version. */
+	private final Map<String, String> versionIndex = new ConcurrentHashMap<>(256);
+
+	private boolean useVersionIndex = false;
+
 
 	/**
 	 * Set a Map with URL paths as keys and {@code VersionStrategy} as values.
@@ -153,6 +172,96 @@ public class VersionResourceResolver extends AbstractResourceResolver {
 		return this;
 	}
 
+	/**
+	 * Whether to keep the version of each resource in an index keyed by resource
+	 * path, so that it is computed only once.
+	 * <p>By default this is set to {@code false}, i.e. the version is obtained
+	 * from the {@link VersionStrategy} each time it is needed. Turn this on if
+	 * resources remain unchanged while the application is running.
+	 * @since 5.2.3
+	 * @see #initVersionIndex(List)
+	 */
+	public void setUseVersionIndex(boolean useVersionIndex) {
+		this.useVersionIndex = useVersionIndex;
+	}
+
+	/**
+	 * Return whether resource versions are kept in an index.
+	 * @since 5.2.3
+	 */
+	public boolean isUseVersionIndex() {
+		return this.useVersionIndex;
+	}
+
+	/**
+	 * Add the given resource versions to the index, e.g. as computed at build
+	 * time, and turn on the {@link #setUseVersionIndex version index}.
+	 * @param versions map from resource path, relative to the resource
+	 * locations (e.g. {@code "css/main.css"}), to version
+	 * @since 5.2.3
+	 */
+	public void setVersionIndex(Map<String, String> versions) {
+		this.versionIndex.putAll(versions);
+		this.useVersionIndex = true;
+	}
+
+	/**
+	 * Return a read-only view of the resource versions currently in the index.
+	 * @since 5.2.3
+	 */
+	public Map<String, String> getVersionIndex() {
+		return Collections.unmodifiableMap(this.versionIndex);
+	}
+
+	/**
+	 * Compute the versions of all resources under the given locations which are
+	 * not in the index yet, in parallel, if the version index is in use.
+	 * <p>Only locations in the file system are scanned. Versions of resources
+	 * in other locations (e.g. within jar files) are added to the index when
+	 * they are first needed.
+	 * @param locations the resource locations to scan, in order of precedence
+	 * @since 5.2.3
+	 */
+	public void initVersionIndex(List<? extends Resource> locations) {
+		if (!this.useVersionIndex) {
+			return;
+		}
+		long startTime = System.nanoTime();
+		Map<String, Resource> resources = new LinkedHashMap<>();
+		for (Resource location : locations) {
+			try {
+				if (!location.isFile() || !location.getFile().isDirectory()) {
+					continue;
+				}
+				Path root = location.getFile().toPath();
+				try (Stream<Path> files = Files.walk(root)) {
+					files.filter(Files::isRegularFile).forEach(file -> {
+						String path = StringUtils.cleanPath(root.relativize(file).toString());
+						if (!resources.containsKey(path) && !this.versionIndex.containsKey(path) &&
+								getStrategyForPath(path) != null) {
+							resources.put(path, new FileSystemResource(file));
+						}
+					});
+				}
+			}
+			catch (IOException ex) {
+				if (logger.isWarnEnabled()) {
+					logger.warn("Failed to scan " + location + " for resource versions", ex);
+				}
+			}
+		}
+		resources.entrySet().parallelStream().forEach(entry -> {
+			VersionStrategy versionStrategy = getStrategyForPath(entry.getKey());
+			if (versionStrategy != null) {
+				this.versionIndex.putIfAbsent(entry.getKey(), versionStrategy.getResourceVersion(entry.getValue()));
+			}
+		});
+		if (logger.isDebugEnabled()) {
+			logger.debug("Computed " + resources.size() + " resource versions in " +
+					(System.nanoTime() - startTime) / 1000000 + " ms");
+		}
+	}
+
 
 	@Override
 	protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
@@ -179,7 +288,7 @@ public class VersionResourceResolver extends AbstractResourceResolver {
 			return null;
 		}
 
-		String actualVersion = versionStrategy.getResourceVersion(baseResource);
+		String actualVersion = getResourceVersion(versionStrategy, simplePath, baseResource);
 		if (candidateVersion.equals(actualVersion)) {
 			return new FileNameVersionedResource(baseResource, candidateVersion);
 		}
@@ -204,12 +313,24 @@ public class VersionResourceResolver extends AbstractResourceResolver {
 			}
 			Resource resource = chain.resolveResource(null, baseUrl, locations);
 			Assert.state(resource != null, "Unresolvable resource");
-			String version = versionStrategy.getResourceVersion(resource);
+			String version = getResourceVersion(versionStrategy, baseUrl, resource);
 			return versionStrategy.addVersion(baseUrl, version);
 		}
 		return baseUrl;
 	}
 
+	private String getResourceVersion(VersionStrategy versionStrategy, String path, Resource resource) {
+		if (!this.useVersionIndex) {
+			return versionStrategy.getResourceVersion(resource);
+		}
+		String version = this.versionIndex.get(path);
+		if (version == null) {
+			version = versionStrategy.getResourceVersion(resource);
+			this.versionIndex.put(path, version);
+		}
+		return version;
+	}
+
 	/**
 	 * Find a {@code VersionStrategy} for the request path of the requested resource.
 	 * @return an instance of a {@code VersionStrategy} or null if none matches that request path
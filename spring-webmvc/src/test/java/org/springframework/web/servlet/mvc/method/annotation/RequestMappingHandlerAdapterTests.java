@@ -45,15 +45,21 @@ import org.springframework.lang.Nullable;
 import org.springframework.mock.web.test.MockHttpServletRequest;
 import org.springframework.mock.web.test.MockHttpServletResponse;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.SessionAttributes;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.annotation.ModelMethodProcessor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.InvocableHandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.FlashMap;
 import org.springframework.web.servlet.ModelAndView;
@@ -174,6 +180,42 @@ public class RequestMappingHandlerAdapterTests {
 		assertMethodProcessorCount(RESOLVER_COUNT, 1, HANDLER_COUNT);
 	}
 
+	@Test
+	public void initBinderMethodsReusedForSingletonBeans() throws Exception {
+		List<MethodParameter> binderParameters = new ArrayList<>();
+		this.webAppContext.registerSingleton("singleton", InitBinderController.class);
+		this.webAppContext.registerPrototype("prototype", InitBinderController.class);
+		this.webAppContext.refresh();
+		this.handlerAdapter.setBeanFactory(this.webAppContext.getBeanFactory());
+		this.handlerAdapter.setInitBinderArgumentResolvers(Collections.singletonList(new HandlerMethodArgumentResolver() {
+			@Override
+			public boolean supportsParameter(MethodParameter parameter) {
+				return parameter.getParameterType() == String.class;
+			}
+			@Override
+			public Object resolveArgument(MethodParameter parameter, @Nullable ModelAndViewContainer mavContainer,
+					NativeWebRequest webRequest, @Nullable WebDataBinderFactory binderFactory) {
+				binderParameters.add(parameter);
+				return "marker";
+			}
+		}));
+		this.handlerAdapter.afterPropertiesSet();
+		this.request.addParameter("id", "1");
+
+		Method method = InitBinderController.class.getDeclaredMethod("handle", Integer.class);
+		HandlerMethod singleton = new HandlerMethod("singleton", this.webAppContext.getBeanFactory(), method);
+		HandlerMethod prototype = new HandlerMethod("prototype", this.webAppContext.getBeanFactory(), method);
+		this.handlerAdapter.handle(this.request, this.response, singleton.createWithResolvedBean());
+		this.handlerAdapter.handle(this.request, this.response, prototype.createWithResolvedBean());
+		this.handlerAdapter.handle(this.request, this.response, singleton.createWithResolvedBean());
+		this.handlerAdapter.handle(this.request, this.response, prototype.createWithResolvedBean());
+
+		assertThat(this.webAppContext.getBean("singleton", InitBinderController.class).initBinderCount).isEqualTo(2);
+		assertThat(binderParameters).hasSize(4);
+		assertThat(binderParameters.get(2)).isSameAs(binderParameters.get(0));
+		assertThat(binderParameters.get(3)).isNotSameAs(binderParameters.get(1));
+	}
+
 	@Test
 	public void setCustomReturnValueHandlers() {
 		HandlerMethodReturnValueHandler handler = new ViewNameMethodReturnValueHandler();
@@ -308,6 +350,22 @@ public class RequestMappingHandlerAdapterTests {
 	}
 
 
+	@SuppressWarnings("unused")
+	private static class InitBinderController {
+
+		private int initBinderCount;
+
+		@InitBinder
+		public void initBinder(WebDataBinder binder, String marker) {
+			this.initBinderCount++;
+		}
+
+		public String handle(@RequestParam("id") Integer id) {
+			return null;
+		}
+	}
+
+
 	@SessionAttributes("attr1")
 	private static class SessionAttributeController {
 
@@ -18,6 +18,7 @@ package org.springframework.web.servlet.resource;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +31,7 @@ import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.mock.web.test.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.servlet.resource.GzipSupport.GzippedFiles;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,6 +85,38 @@ public class CachingResourceResolverTests {
 		assertThat(actual).isSameAs(expected);
 	}
 
+	@Test
+	public void resolveResourceWithCachedContent() throws IOException {
+		CachingResourceResolver resolver = new CachingResourceResolver(this.cache);
+		resolver.setMaxCachedContentLength(1024);
+		ResourceResolverChain chain = new DefaultResourceResolverChain(
+				Arrays.asList(resolver, new PathResourceResolver()));
+		Resource original = new ClassPathResource("test/bar.css", getClass());
+
+		Resource actual = chain.resolveResource(null, "bar.css", this.locations);
+
+		assertThat(actual).isInstanceOf(CachingResourceResolver.CachedContentResource.class);
+		assertThat(actual.isFile()).isFalse();
+		assertThat(actual.getFilename()).isEqualTo("bar.css");
+		assertThat(actual.getURL()).isEqualTo(original.getURL());
+		assertThat(actual.lastModified()).isEqualTo(original.lastModified());
+		assertThat(StreamUtils.copyToByteArray(actual.getInputStream()))
+				.isEqualTo(StreamUtils.copyToByteArray(original.getInputStream()));
+		assertThat(chain.resolveResource(null, "bar.css", this.locations)).isSameAs(actual);
+	}
+
+	@Test
+	public void resolveResourceExceedingMaxCachedContentLength() {
+		CachingResourceResolver resolver = new CachingResourceResolver(this.cache);
+		resolver.setMaxCachedContentLength(1);
+		ResourceResolverChain chain = new DefaultResourceResolverChain(
+				Arrays.asList(resolver, new PathResourceResolver()));
+
+		Resource actual = chain.resolveResource(null, "bar.css", this.locations);
+
+		assertThat(actual).isEqualTo(new ClassPathResource("test/bar.css", getClass()));
+	}
+
 	@Test
 	public void resolveResourceInternalNoMatch() {
 		assertThat(this.chain.resolveResource(null, "invalid.css", this.locations)).isNull();
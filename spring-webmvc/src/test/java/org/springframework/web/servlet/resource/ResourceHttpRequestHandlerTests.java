@@ -117,6 +117,43 @@ public class ResourceHttpRequestHandlerTests {
 		assertThat(this.response.getContentAsByteArray().length).isEqualTo(0);
 	}
 
+	@Test
+	public void getResourceWithSendfile() throws Exception {
+		this.handler.setSendfileThreshold(10);
+		this.request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.css");
+		this.handler.handleRequest(this.request, this.response);
+
+		assertThat(this.response.getContentType()).isEqualTo("text/css");
+		assertThat(this.response.getContentLength()).isEqualTo(17);
+		assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename"))
+				.isEqualTo(new ClassPathResource("test/foo.css", getClass()).getFile().getAbsolutePath());
+		assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+		assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(17L);
+		assertThat(this.response.getContentAsByteArray().length).isEqualTo(0);
+	}
+
+	@Test
+	public void getResourceWithSendfileBelowThreshold() throws Exception {
+		this.handler.setSendfileThreshold(1024);
+		this.request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.css");
+		this.handler.handleRequest(this.request, this.response);
+
+		assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+		assertThat(this.response.getContentAsString()).isEqualTo("h1 { color:red; }");
+	}
+
+	@Test
+	public void getResourceWithSendfileNotSupported() throws Exception {
+		this.handler.setSendfileThreshold(10);
+		this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.css");
+		this.handler.handleRequest(this.request, this.response);
+
+		assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+		assertThat(this.response.getContentAsString()).isEqualTo("h1 { color:red; }");
+	}
+
 	@Test
 	public void getResourceHttpOptions() throws Exception {
 		this.request.setMethod("OPTIONS");
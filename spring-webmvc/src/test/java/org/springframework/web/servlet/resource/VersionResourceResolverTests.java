@@ -156,6 +156,63 @@ public class VersionResourceResolverTests {
 		assertThat(((HttpResource)actual).getResponseHeaders().getETag()).isEqualTo("\"" + version + "\"");
 	}
 
+	@Test
+	public void resolveResourceWithVersionIndex() throws Exception {
+		String versionFile = "bar-version.css";
+		String version = "version";
+		String file = "bar.css";
+		Resource expected = new ClassPathResource("test/" + file, getClass());
+		given(this.chain.resolveResource(null, versionFile, this.locations)).willReturn(null);
+		given(this.chain.resolveResource(null, file, this.locations)).willReturn(expected);
+		given(this.versionStrategy.extractVersion(versionFile)).willReturn(version);
+		given(this.versionStrategy.removeVersion(versionFile, version)).willReturn(file);
+		given(this.versionStrategy.getResourceVersion(expected)).willReturn(version);
+
+		this.resolver.setStrategyMap(Collections.singletonMap("/**", this.versionStrategy));
+		this.resolver.setUseVersionIndex(true);
+		assertThat(this.resolver.resolveResourceInternal(null, versionFile, this.locations, this.chain)).isNotNull();
+		assertThat(this.resolver.resolveResourceInternal(null, versionFile, this.locations, this.chain)).isNotNull();
+
+		verify(this.versionStrategy, times(1)).getResourceVersion(expected);
+		assertThat(this.resolver.getVersionIndex()).containsEntry(file, version);
+	}
+
+	@Test
+	public void resolveUrlPathWithPreloadedVersionIndex() throws Exception {
+		Resource resource = new ClassPathResource("test/bar.css", getClass());
+		given(this.chain.resolveUrlPath("bar.css", this.locations)).willReturn("bar.css");
+		given(this.chain.resolveResource(null, "bar.css", this.locations)).willReturn(resource);
+		given(this.versionStrategy.addVersion("bar.css", "prebuilt")).willReturn("bar-prebuilt.css");
+
+		this.resolver.setStrategyMap(Collections.singletonMap("/**", this.versionStrategy));
+		this.resolver.setVersionIndex(Collections.singletonMap("bar.css", "prebuilt"));
+		String resolved = this.resolver.resolveUrlPathInternal("bar.css", this.locations, this.chain);
+
+		assertThat(resolved).isEqualTo("bar-prebuilt.css");
+		verify(this.versionStrategy, never()).getResourceVersion(resource);
+	}
+
+	@Test
+	public void initVersionIndex() throws Exception {
+		this.resolver.addContentVersionStrategy("/**/*.css");
+		this.resolver.setUseVersionIndex(true);
+		this.resolver.initVersionIndex(this.locations);
+
+		Map<String, String> index = this.resolver.getVersionIndex();
+		Resource resource = new ClassPathResource("test/bar.css", getClass());
+		assertThat(index).containsEntry("bar.css", new ContentVersionStrategy().getResourceVersion(resource));
+		assertThat(index).containsKeys("foo-bar/foo-bar.css", "baz.css");
+		assertThat(index).doesNotContainKey("foo.txt");
+	}
+
+	@Test
+	public void initVersionIndexNotInUse() throws Exception {
+		this.resolver.addContentVersionStrategy("/**/*.css");
+		this.resolver.initVersionIndex(this.locations);
+
+		assertThat(this.resolver.getVersionIndex()).isEmpty();
+	}
+
 	@Test
 	public void getStrategyForPath() throws Exception {
 		Map<String, VersionStrategy> strategies = new HashMap<>();